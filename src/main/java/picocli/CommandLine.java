@@ -133,6 +133,10 @@ import static picocli.CommandLine.Help.Column.Overflow.WRAP;
  * -v -ooutfile in1 in2
  * -vooutfile in1 in2
  * </pre>
+ * <p>
+ * A {@code CommandLine} instance is not thread-safe: parse results are recorded in the command model and applied to the
+ * user object. Applications that parse arguments concurrently should create a separate {@code CommandLine} for each thread.
+ * </p>
  * <h2>Classes and Interfaces for Defining a CommandSpec Model</h2>
  * <p>
  * <img src="doc-files/class-diagram-definition.png" alt="Classes and Interfaces for Defining a CommandSpec Model">
@@ -151,6 +155,7 @@ public class CommandLine {
     private final CommandSpec commandSpec;
     private final Interpreter interpreter;
     private final IFactory factory;
+    private final Map<String, Object> propagatedSettings = new LinkedHashMap<String, Object>();
 
     private Object executionResult;
     private PrintWriter out;
@@ -412,7 +417,7 @@ public class CommandLine {
      */
     public CommandLine setHelpFactory(IHelpFactory helpFactory) {
         getCommandSpec().usageMessage().helpFactory(helpFactory);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setHelpFactory", helpFactory)) {
             command.setHelpFactory(helpFactory);
         }
         return this;
@@ -456,7 +461,7 @@ public class CommandLine {
      */
     public CommandLine setHelpSectionKeys(List<String> keys) {
         getCommandSpec().usageMessage().sectionKeys(keys);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setHelpSectionKeys", keys)) {
             command.setHelpSectionKeys(keys);
         }
         return this;
@@ -487,7 +492,7 @@ public class CommandLine {
      */
     public CommandLine setHelpSectionMap(Map<String, IHelpSectionRenderer> map) {
         getCommandSpec().usageMessage().sectionMap(map);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setHelpSectionMap", map)) {
             command.setHelpSectionMap(map);
         }
         return this;
@@ -506,7 +511,7 @@ public class CommandLine {
      * @since 4.0 */
     public CommandLine setAdjustLineBreaksForWideCJKCharacters(boolean adjustForWideChars) {
         getCommandSpec().usageMessage().adjustLineBreaksForWideCJKCharacters(adjustForWideChars);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setAdjustLineBreaksForWideCJKCharacters", adjustForWideChars)) {
             command.setAdjustLineBreaksForWideCJKCharacters(adjustForWideChars);
         }
         return this;
@@ -537,7 +542,7 @@ public class CommandLine {
      */
     public CommandLine setToggleBooleanFlags(boolean newValue) {
         getCommandSpec().parser().toggleBooleanFlags(newValue);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setToggleBooleanFlags", newValue)) {
             command.setToggleBooleanFlags(newValue);
         }
         return this;
@@ -554,7 +559,7 @@ public class CommandLine {
      * @since 4.0 */
     public CommandLine setInterpolateVariables(boolean interpolate) {
         getCommandSpec().interpolateVariables(interpolate);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setInterpolateVariables", interpolate)) {
             command.setInterpolateVariables(interpolate);
         }
         return this;
@@ -582,7 +587,7 @@ public class CommandLine {
      */
     public CommandLine setOverwrittenOptionsAllowed(boolean newValue) {
         getCommandSpec().parser().overwrittenOptionsAllowed(newValue);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setOverwrittenOptionsAllowed", newValue)) {
             command.setOverwrittenOptionsAllowed(newValue);
         }
         return this;
@@ -604,12 +609,182 @@ public class CommandLine {
      */
     public CommandLine setPosixClusteredShortOptionsAllowed(boolean newValue) {
         getCommandSpec().parser().posixClusteredShortOptionsAllowed(newValue);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setPosixClusteredShortOptionsAllowed", newValue)) {
             command.setPosixClusteredShortOptionsAllowed(newValue);
         }
         return this;
     }
 
+    /** Returns whether the parser accepts unique prefixes of subcommand names and aliases. The default is {@code false}.
+     * @return {@code true} if a subcommand can be invoked with an unambiguous prefix of its name or one of its aliases,
+     *          for example {@code stat} for {@code status}, {@code false} otherwise
+     * @since 4.3 */
+    public boolean isAbbreviatedSubcommandsAllowed() { return getCommandSpec().parser().abbreviatedSubcommandsAllowed(); }
+
+    /** Sets whether the parser accepts unique prefixes of subcommand names and aliases. The default is {@code false}.
+     * <p>When this is enabled, an argument that does not exactly match a subcommand, but is the prefix of exactly one subcommand,
+     * invokes that subcommand. If the prefix matches more than one subcommand, a {@link ParameterException} is thrown.</p>
+     * <p>The specified setting will be registered with this {@code CommandLine} and the full hierarchy of its
+     * subcommands and nested sub-subcommands <em>at the moment this method is called</em>. Subcommands added
+     * later will have the default setting. To ensure a setting is applied to all
+     * subcommands, call the setter last, after adding subcommands.</p>
+     * @param newValue the new setting
+     * @return this {@code CommandLine} object, to allow method chaining
+     * @since 4.3
+     */
+    public CommandLine setAbbreviatedSubcommandsAllowed(boolean newValue) {
+        getCommandSpec().parser().abbreviatedSubcommandsAllowed(newValue);
+        for (CommandLine command : subcommandsToUpdate("setAbbreviatedSubcommandsAllowed", newValue)) {
+            command.setAbbreviatedSubcommandsAllowed(newValue);
+        }
+        return this;
+    }
+
+    /** Returns whether the parser accepts unique prefixes of option names. The default is {@code false}.
+     * @return {@code true} if an option can be specified with an unambiguous prefix of one of its names,
+     *          for example {@code --verb} for {@code --verbose}, {@code false} otherwise
+     * @since 4.3 */
+    public boolean isAbbreviatedOptionsAllowed() { return getCommandSpec().parser().abbreviatedOptionsAllowed(); }
+
+    /** Sets whether the parser accepts unique prefixes of option names. The default is {@code false}.
+     * <p>When this is enabled, an argument that does not exactly match an option name, but is the prefix of
+     * the name of exactly one option (or of the negated name of a {@linkplain Option#negatable() negatable} option), is
+     * processed as that option. Option parameters attached with the {@linkplain #getSeparator() separator}, like
+     * {@code --verb=3}, are supported. If the prefix matches more than one option, a {@link ParameterException} is thrown.</p>
+     * <p>The specified setting will be registered with this {@code CommandLine} and the full hierarchy of its
+     * subcommands and nested sub-subcommands <em>at the moment this method is called</em>. Subcommands added
+     * later will have the default setting. To ensure a setting is applied to all
+     * subcommands, call the setter last, after adding subcommands.</p>
+     * @param newValue the new setting
+     * @return this {@code CommandLine} object, to allow method chaining
+     * @since 4.3
+     */
+    public CommandLine setAbbreviatedOptionsAllowed(boolean newValue) {
+        getCommandSpec().parser().abbreviatedOptionsAllowed(newValue);
+        for (CommandLine command : subcommandsToUpdate("setAbbreviatedOptionsAllowed", newValue)) {
+            command.setAbbreviatedOptionsAllowed(newValue);
+        }
+        return this;
+    }
+
+    /** Returns the maximum number of converted values that this {@code CommandLine} caches for built-in converters
+     * that perform a lookup. The default is {@code 0}: converted values are not cached.
+     * @return the maximum number of cached converted values, or {@code 0} if caching is disabled
+     * @see #setConverterCacheSize(int)
+     * @since 4.3 */
+    public int getConverterCacheSize() { return getCommandSpec().parser().converterCacheSize(); }
+
+    /** Sets the maximum number of converted values that this {@code CommandLine} caches for built-in converters
+     * that perform a lookup. The default is {@code 0}: converted values are not cached.
+     * <p>This is useful for applications that parse many argument vectors with the same {@code CommandLine} instance,
+     * for example in a daemon or batch mode, where the same values are converted again and again.
+     * When caching is enabled, the values converted by the built-in converters for
+     * {@code java.lang.Class}, {@code java.nio.charset.Charset}, {@code java.net.InetAddress} and
+     * {@code java.net.NetworkInterface} are cached, and the least recently used values are evicted
+     * when the cache is full. Values resolved from a host or network interface name expire after 30 seconds,
+     * the default time the JVM caches successful host name lookups.
+     * Values that cannot be converted, and values converted by custom converters, are never cached.</p>
+     * <p>The specified setting will be registered with this {@code CommandLine} and the full hierarchy of its
+     * subcommands and nested sub-subcommands <em>at the moment this method is called</em>. Subcommands added
+     * later will have the default setting. To ensure a setting is applied to all
+     * subcommands, call the setter last, after adding subcommands.</p>
+     * @param newValue the maximum number of cached converted values, or {@code 0} to disable caching
+     * @return this {@code CommandLine} object, to allow method chaining
+     * @throws InitializationException if the specified value is negative
+     * @since 4.3
+     */
+    public CommandLine setConverterCacheSize(int newValue) {
+        getCommandSpec().parser().converterCacheSize(newValue);
+        for (CommandLine command : subcommandsToUpdate("setConverterCacheSize", newValue)) {
+            command.setConverterCacheSize(newValue);
+        }
+        return this;
+    }
+
+    /** Returns whether the parser defers type conversion of single-value options and positional parameters until their value is read.
+     * The default is {@code false}.
+     * @return {@code true} if values are converted when they are first read, {@code false} if values are converted while parsing
+     * @see #setLazyTypeConversion(boolean)
+     * @since 4.3 */
+    public boolean isLazyTypeConversion() { return getCommandSpec().parser().lazyTypeConversion(); }
+
+    /** Sets whether the parser defers type conversion of single-value options and positional parameters until their value is read.
+     * The default is {@code false}.
+     * <p>When this is enabled, the parser keeps the string value of an option or positional parameter that is
+     * not bound to a field or a setter method: for example, an option declared by an annotated getter method of a
+     * {@code @Command}-annotated interface, or an {@code ArgSpec} built programmatically without a custom binding.
+     * The value is converted when it is first read with the annotated getter method, with {@link Model.ArgSpec#getValue()},
+     * or with the {@link ParseResult} methods that return option and positional parameter values.
+     * This avoids the cost of converting values that the application never uses, including default values.</p>
+     * <p>Values of fields and setter methods, multi-value options and positional parameters, boolean options,
+     * and interactive options are always converted while parsing.
+     * If a deferred value cannot be converted, a {@link ParameterException} is thrown when the value is read, instead of during parsing.</p>
+     * <p>The specified setting will be registered with this {@code CommandLine} and the full hierarchy of its
+     * subcommands and nested sub-subcommands <em>at the moment this method is called</em>. Subcommands added
+     * later will have the default setting. To ensure a setting is applied to all
+     * subcommands, call the setter last, after adding subcommands.</p>
+     * @param newValue the new setting
+     * @return this {@code CommandLine} object, to allow method chaining
+     * @since 4.3
+     */
+    public CommandLine setLazyTypeConversion(boolean newValue) {
+        getCommandSpec().parser().lazyTypeConversion(newValue);
+        for (CommandLine command : subcommandsToUpdate("setLazyTypeConversion", newValue)) {
+            command.setLazyTypeConversion(newValue);
+        }
+        return this;
+    }
+
+    /** Returns the maximum number of trace messages that this {@code CommandLine} records while parsing.
+     * The default is {@code 0}: trace messages are not recorded.
+     * @return the maximum number of recorded trace messages, or {@code 0} if the trace history is disabled
+     * @see #setTraceHistorySize(int)
+     * @see #getTraceHistory()
+     * @since 4.3 */
+    public int getTraceHistorySize() { return getCommandSpec().parser().traceHistorySize(); }
+
+    /** Sets the maximum number of trace messages that this {@code CommandLine} records while parsing.
+     * The default is {@code 0}: trace messages are not recorded.
+     * <p>When this is enabled, the parser records the most recent messages it would print with
+     * {@code -Dpicocli.trace=DEBUG}, regardless of the {@code picocli.trace} system property,
+     * so that the decisions made while parsing can be inspected with {@link #getTraceHistory()}
+     * after a {@link ParameterException} or any other unexpected result, without printing anything.
+     * The messages are kept in a buffer of the specified size that is allocated once; only the message template
+     * and its parameters are recorded, and the messages are formatted when the history is read.
+     * Parameters that may change after they are recorded, like the parser configuration, collections and user objects,
+     * are converted to text when they are recorded, so the history shows the state the parser saw;
+     * the history therefore does not keep references to user objects.
+     * To keep recording cheap, recorded messages show the number of remaining arguments instead of the arguments themselves,
+     * and the number of matches of an argument group instead of all its matches and user objects.
+     * Each parse starts with an empty history, which is shared with the subcommands matched during that parse.</p>
+     * <p>The specified setting will be registered with this {@code CommandLine} and the full hierarchy of its
+     * subcommands and nested sub-subcommands <em>at the moment this method is called</em>. Subcommands added
+     * later will have the default setting. To ensure a setting is applied to all
+     * subcommands, call the setter last, after adding subcommands.</p>
+     * @param newValue the maximum number of recorded trace messages, or {@code 0} to disable the trace history
+     * @return this {@code CommandLine} object, to allow method chaining
+     * @throws InitializationException if the specified value is negative
+     * @since 4.3
+     */
+    public CommandLine setTraceHistorySize(int newValue) {
+        getCommandSpec().parser().traceHistorySize(newValue);
+        for (CommandLine command : subcommandsToUpdate("setTraceHistorySize", newValue)) {
+            command.setTraceHistorySize(newValue);
+        }
+        return this;
+    }
+
+    /** Returns the trace messages recorded during the last parse that involved this {@code CommandLine}, oldest first.
+     * At most {@link #getTraceHistorySize()} of the most recent messages are returned.
+     * For a {@link ParameterException}, the history of the failed parse can be obtained with
+     * {@code ex.getCommandLine().getTraceHistory()}.
+     * @return the formatted trace messages, or an empty list if the trace history is disabled or nothing was parsed yet
+     * @see #setTraceHistorySize(int)
+     * @since 4.3 */
+    public List<String> getTraceHistory() {
+        return tracer.history == null ? Collections.<String>emptyList() : tracer.history.format();
+    }
+
     /** Returns whether the parser should ignore case when converting arguments to {@code enum} values. The default is {@code false}.
      * @return {@code true} if enum values can be specified that don't match the {@code toString()} value of the enum constant, {@code false} otherwise;
      * e.g., for an option of type <a href="https://docs.oracle.com/javase/8/docs/api/java/time/DayOfWeek.html">java.time.DayOfWeek</a>,
@@ -630,7 +805,7 @@ public class CommandLine {
      */
     public CommandLine setCaseInsensitiveEnumValuesAllowed(boolean newValue) {
         getCommandSpec().parser().caseInsensitiveEnumValuesAllowed(newValue);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setCaseInsensitiveEnumValuesAllowed", newValue)) {
             command.setCaseInsensitiveEnumValuesAllowed(newValue);
         }
         return this;
@@ -675,7 +850,7 @@ public class CommandLine {
      */
     public CommandLine setTrimQuotes(boolean newValue) {
         getCommandSpec().parser().trimQuotes(newValue);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setTrimQuotes", newValue)) {
             command.setTrimQuotes(newValue);
         }
         return this;
@@ -721,7 +896,7 @@ public class CommandLine {
      */
     @Deprecated public CommandLine setSplitQuotedStrings(boolean newValue) {
         getCommandSpec().parser().splitQuotedStrings(newValue);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setSplitQuotedStrings", newValue)) {
             command.setSplitQuotedStrings(newValue);
         }
         return this;
@@ -738,7 +913,7 @@ public class CommandLine {
      * @since 3.5 */
     public CommandLine setEndOfOptionsDelimiter(String delimiter) {
         getCommandSpec().parser().endOfOptionsDelimiter(delimiter);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setEndOfOptionsDelimiter", delimiter)) {
             command.setEndOfOptionsDelimiter(delimiter);
         }
         return this;
@@ -766,7 +941,7 @@ public class CommandLine {
      */
     public CommandLine setDefaultValueProvider(IDefaultValueProvider newValue) {
         getCommandSpec().defaultValueProvider(newValue);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setDefaultValueProvider", newValue)) {
             command.setDefaultValueProvider(newValue);
         }
         return this;
@@ -793,7 +968,7 @@ public class CommandLine {
      */
     public CommandLine setStopAtPositional(boolean newValue) {
         getCommandSpec().parser().stopAtPositional(newValue);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setStopAtPositional", newValue)) {
             command.setStopAtPositional(newValue);
         }
         return this;
@@ -828,7 +1003,7 @@ public class CommandLine {
      */
     public CommandLine setStopAtUnmatched(boolean newValue) {
         getCommandSpec().parser().stopAtUnmatched(newValue);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setStopAtUnmatched", newValue)) {
             command.setStopAtUnmatched(newValue);
         }
         if (newValue) { setUnmatchedArgumentsAllowed(true); }
@@ -859,7 +1034,7 @@ public class CommandLine {
      */
     public CommandLine setUnmatchedOptionsArePositionalParams(boolean newValue) {
         getCommandSpec().parser().unmatchedOptionsArePositionalParams(newValue);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setUnmatchedOptionsArePositionalParams", newValue)) {
             command.setUnmatchedOptionsArePositionalParams(newValue);
         }
         return this;
@@ -889,7 +1064,7 @@ public class CommandLine {
      */
     public CommandLine setUnmatchedArgumentsAllowed(boolean newValue) {
         getCommandSpec().parser().unmatchedArgumentsAllowed(newValue);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setUnmatchedArgumentsAllowed", newValue)) {
             command.setUnmatchedArgumentsAllowed(newValue);
         }
         return this;
@@ -1029,7 +1204,7 @@ public class CommandLine {
      */
     public CommandLine setColorScheme(Help.ColorScheme colorScheme) {
         this.colorScheme = Assert.notNull(colorScheme, "colorScheme");
-        for (CommandLine sub : getSubcommands().values()) { sub.setColorScheme(colorScheme); }
+        for (CommandLine sub : subcommandsToUpdate("setColorScheme", colorScheme)) { sub.setColorScheme(colorScheme); }
         return this;
     }
 
@@ -1057,7 +1232,7 @@ public class CommandLine {
      */
     public CommandLine setOut(PrintWriter out) {
         this.out = Assert.notNull(out, "out");
-        for (CommandLine sub : getSubcommands().values()) { sub.setOut(out); }
+        for (CommandLine sub : subcommandsToUpdate("setOut", out)) { sub.setOut(out); }
         return this;
     }
 
@@ -1085,7 +1260,7 @@ public class CommandLine {
      * @since 4.0 */
     public CommandLine setErr(PrintWriter err) {
         this.err = Assert.notNull(err, "err");
-        for (CommandLine sub : getSubcommands().values()) { sub.setErr(err); }
+        for (CommandLine sub : subcommandsToUpdate("setErr", err)) { sub.setErr(err); }
         return this;
     }
 
@@ -1105,7 +1280,7 @@ public class CommandLine {
      * @since 4.0 */
     public CommandLine setExitCodeExceptionMapper(IExitCodeExceptionMapper exitCodeExceptionMapper) {
         this.exitCodeExceptionMapper = Assert.notNull(exitCodeExceptionMapper, "exitCodeExceptionMapper");
-        for (CommandLine sub : getSubcommands().values()) { sub.setExitCodeExceptionMapper(exitCodeExceptionMapper); }
+        for (CommandLine sub : subcommandsToUpdate("setExitCodeExceptionMapper", exitCodeExceptionMapper)) { sub.setExitCodeExceptionMapper(exitCodeExceptionMapper); }
         return this;
     }
 
@@ -1127,7 +1302,7 @@ public class CommandLine {
      * @since 4.0 */
     public CommandLine setExecutionStrategy(IExecutionStrategy executionStrategy) {
         this.executionStrategy = Assert.notNull(executionStrategy, "executionStrategy");
-        for (CommandLine sub : getSubcommands().values()) { sub.setExecutionStrategy(executionStrategy); }
+        for (CommandLine sub : subcommandsToUpdate("setExecutionStrategy", executionStrategy)) { sub.setExecutionStrategy(executionStrategy); }
         return this;
     }
 
@@ -1181,7 +1356,7 @@ public class CommandLine {
      * @since 4.0 */
     public CommandLine setParameterExceptionHandler(IParameterExceptionHandler parameterExceptionHandler) {
         this.parameterExceptionHandler = Assert.notNull(parameterExceptionHandler, "parameterExceptionHandler");
-        for (CommandLine sub : getSubcommands().values()) { sub.setParameterExceptionHandler(parameterExceptionHandler); }
+        for (CommandLine sub : subcommandsToUpdate("setParameterExceptionHandler", parameterExceptionHandler)) { sub.setParameterExceptionHandler(parameterExceptionHandler); }
         return this;
     }
 
@@ -1204,7 +1379,7 @@ public class CommandLine {
      * @since 4.0 */
     public CommandLine setExecutionExceptionHandler(IExecutionExceptionHandler executionExceptionHandler) {
         this.executionExceptionHandler = Assert.notNull(executionExceptionHandler, "executionExceptionHandler");
-        for (CommandLine sub : getSubcommands().values()) { sub.setExecutionExceptionHandler(executionExceptionHandler); }
+        for (CommandLine sub : subcommandsToUpdate("setExecutionExceptionHandler", executionExceptionHandler)) { sub.setExecutionExceptionHandler(executionExceptionHandler); }
         return this;
     }
 
@@ -1336,7 +1511,7 @@ public class CommandLine {
      * @since 4.0 */
     public void clearExecutionResults() {
         executionResult = null;
-        for (CommandLine sub : getSubcommands().values()) { sub.clearExecutionResults(); }
+        for (CommandLine sub : getCommandSpec().initializedSubcommands()) { sub.clearExecutionResults(); }
     }
     /**
      * Represents a function that can process a List of {@code CommandLine} objects resulting from successfully
@@ -1658,7 +1833,7 @@ public class CommandLine {
                 ex.getCommandLine().usage(writer, colorScheme);
             }
             Tracer tracer = new Tracer();
-            if (tracer.isDebug()) { // #956 show error details if DEBUG is enabled
+            if (tracer.isPrinting(TraceLevel.DEBUG)) { // #956 show error details if DEBUG is enabled
                 ex.printStackTrace(tracer.stream);
             }
         }
@@ -3068,8 +3243,8 @@ public class CommandLine {
      * @see #addSubcommand(String, Object)
      */
     public <K> CommandLine registerConverter(Class<K> cls, ITypeConverter<K> converter) {
-        interpreter.converterRegistry.put(Assert.notNull(cls, "class"), Assert.notNull(converter, "converter"));
-        for (CommandLine command : getCommandSpec().commands.values()) {
+        interpreter.registerConverter(Assert.notNull(cls, "class"), Assert.notNull(converter, "converter"));
+        for (CommandLine command : getCommandSpec().initializedSubcommands()) {
             command.registerConverter(cls, converter);
         }
         return this;
@@ -3091,7 +3266,7 @@ public class CommandLine {
      * @return this {@code CommandLine} object, to allow method chaining */
     public CommandLine setSeparator(String separator) {
         getCommandSpec().parser().separator(Assert.notNull(separator, "separator"));
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setSeparator", separator)) {
             command.setSeparator(separator);
         }
         return this;
@@ -3115,7 +3290,7 @@ public class CommandLine {
      * @since 3.6 */
     public CommandLine setResourceBundle(ResourceBundle bundle) {
         getCommandSpec().resourceBundle(bundle);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setResourceBundle", bundle)) {
             command.setResourceBundle(bundle);
         }
         return this;
@@ -3135,7 +3310,7 @@ public class CommandLine {
      * @return this {@code CommandLine} object, to allow method chaining */
     public CommandLine setUsageHelpWidth(int width) {
         getCommandSpec().usageMessage().width(width);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setUsageHelpWidth", width)) {
             command.setUsageHelpWidth(width);
         }
         return this;
@@ -3163,7 +3338,7 @@ public class CommandLine {
      * @since 4.2 */
     public CommandLine setUsageHelpLongOptionsMaxWidth(int columnWidth) {
         getCommandSpec().usageMessage().longOptionsMaxWidth(columnWidth);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setUsageHelpLongOptionsMaxWidth", columnWidth)) {
             command.setUsageHelpLongOptionsMaxWidth(columnWidth);
         }
         return this;
@@ -3189,7 +3364,7 @@ public class CommandLine {
      * @since 4.0 */
     public CommandLine setUsageHelpAutoWidth(boolean detectTerminalSize) {
         getCommandSpec().usageMessage().autoWidth(detectTerminalSize);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setUsageHelpAutoWidth", detectTerminalSize)) {
             command.setUsageHelpAutoWidth(detectTerminalSize);
         }
         return this;
@@ -3249,7 +3424,7 @@ public class CommandLine {
      * @since 3.5 */
     public CommandLine setAtFileCommentChar(Character atFileCommentChar) {
         getCommandSpec().parser().atFileCommentChar(atFileCommentChar);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setAtFileCommentChar", atFileCommentChar)) {
             command.setAtFileCommentChar(atFileCommentChar);
         }
         return this;
@@ -3274,7 +3449,7 @@ public class CommandLine {
      * @since 3.9 */
     public CommandLine setUseSimplifiedAtFiles(boolean simplifiedAtFiles) {
         getCommandSpec().parser().useSimplifiedAtFiles(simplifiedAtFiles);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setUseSimplifiedAtFiles", simplifiedAtFiles)) {
             command.setUseSimplifiedAtFiles(simplifiedAtFiles);
         }
         return this;
@@ -3299,11 +3474,64 @@ public class CommandLine {
      * @since 4.0 */
     public CommandLine setNegatableOptionTransformer(INegatableOptionTransformer transformer) {
         getCommandSpec().negatableOptionTransformer(transformer);
-        for (CommandLine command : getCommandSpec().subcommands().values()) {
+        for (CommandLine command : subcommandsToUpdate("setNegatableOptionTransformer", transformer)) {
             command.setNegatableOptionTransformer(transformer);
         }
         return this;
     }
+    /** Remembers the specified setting so it can be applied to {@linkplain Command#lazySubcommands() lazy subcommands}
+     * when they are instantiated, and returns the subcommands that have already been instantiated. */
+    private Collection<CommandLine> subcommandsToUpdate(String setter, Object value) {
+        propagatedSettings.put(setter, value);
+        return getCommandSpec().initializedSubcommands();
+    }
+    /** Applies the settings that were propagated to the subcommands of the specified parent to this lazily instantiated subcommand. */
+    @SuppressWarnings("unchecked")
+    void applyPropagatedSettings(CommandLine parent) {
+        interpreter.registerConverters(parent.interpreter);
+        for (Map.Entry<String, Object> entry : parent.propagatedSettings.entrySet()) {
+            String setter = entry.getKey();
+            Object value = entry.getValue();
+            if      ("setHelpFactory".equals(setter))                          { setHelpFactory((IHelpFactory) value); }
+            else if ("setHelpSectionKeys".equals(setter))                      { setHelpSectionKeys((List<String>) value); }
+            else if ("setHelpSectionMap".equals(setter))                       { setHelpSectionMap((Map<String, IHelpSectionRenderer>) value); }
+            else if ("setAdjustLineBreaksForWideCJKCharacters".equals(setter)) { setAdjustLineBreaksForWideCJKCharacters((Boolean) value); }
+            else if ("setToggleBooleanFlags".equals(setter))                   { setToggleBooleanFlags((Boolean) value); }
+            else if ("setInterpolateVariables".equals(setter))                 { setInterpolateVariables((Boolean) value); }
+            else if ("setOverwrittenOptionsAllowed".equals(setter))            { setOverwrittenOptionsAllowed((Boolean) value); }
+            else if ("setPosixClusteredShortOptionsAllowed".equals(setter))    { setPosixClusteredShortOptionsAllowed((Boolean) value); }
+            else if ("setAbbreviatedSubcommandsAllowed".equals(setter))        { setAbbreviatedSubcommandsAllowed((Boolean) value); }
+            else if ("setAbbreviatedOptionsAllowed".equals(setter))            { setAbbreviatedOptionsAllowed((Boolean) value); }
+            else if ("setConverterCacheSize".equals(setter))                   { setConverterCacheSize((Integer) value); }
+            else if ("setLazyTypeConversion".equals(setter))                   { setLazyTypeConversion((Boolean) value); }
+            else if ("setTraceHistorySize".equals(setter))                     { setTraceHistorySize((Integer) value); }
+            else if ("setCaseInsensitiveEnumValuesAllowed".equals(setter))     { setCaseInsensitiveEnumValuesAllowed((Boolean) value); }
+            else if ("setTrimQuotes".equals(setter))                           { setTrimQuotes((Boolean) value); }
+            else if ("setSplitQuotedStrings".equals(setter))                   { setSplitQuotedStrings((Boolean) value); }
+            else if ("setEndOfOptionsDelimiter".equals(setter))                { setEndOfOptionsDelimiter((String) value); }
+            else if ("setDefaultValueProvider".equals(setter))                 { setDefaultValueProvider((IDefaultValueProvider) value); }
+            else if ("setStopAtPositional".equals(setter))                     { setStopAtPositional((Boolean) value); }
+            else if ("setStopAtUnmatched".equals(setter))                      { setStopAtUnmatched((Boolean) value); }
+            else if ("setUnmatchedOptionsArePositionalParams".equals(setter))  { setUnmatchedOptionsArePositionalParams((Boolean) value); }
+            else if ("setUnmatchedArgumentsAllowed".equals(setter))            { setUnmatchedArgumentsAllowed((Boolean) value); }
+            else if ("setColorScheme".equals(setter))                          { setColorScheme((Help.ColorScheme) value); }
+            else if ("setOut".equals(setter))                                  { setOut((PrintWriter) value); }
+            else if ("setErr".equals(setter))                                  { setErr((PrintWriter) value); }
+            else if ("setExitCodeExceptionMapper".equals(setter))              { setExitCodeExceptionMapper((IExitCodeExceptionMapper) value); }
+            else if ("setExecutionStrategy".equals(setter))                    { setExecutionStrategy((IExecutionStrategy) value); }
+            else if ("setParameterExceptionHandler".equals(setter))            { setParameterExceptionHandler((IParameterExceptionHandler) value); }
+            else if ("setExecutionExceptionHandler".equals(setter))            { setExecutionExceptionHandler((IExecutionExceptionHandler) value); }
+            else if ("setSeparator".equals(setter))                            { setSeparator((String) value); }
+            else if ("setResourceBundle".equals(setter))                       { setResourceBundle((ResourceBundle) value); }
+            else if ("setUsageHelpWidth".equals(setter))                       { setUsageHelpWidth((Integer) value); }
+            else if ("setUsageHelpLongOptionsMaxWidth".equals(setter))         { setUsageHelpLongOptionsMaxWidth((Integer) value); }
+            else if ("setUsageHelpAutoWidth".equals(setter))                   { setUsageHelpAutoWidth((Boolean) value); }
+            else if ("setAtFileCommentChar".equals(setter))                    { setAtFileCommentChar((Character) value); }
+            else if ("setUseSimplifiedAtFiles".equals(setter))                 { setUseSimplifiedAtFiles((Boolean) value); }
+            else if ("setNegatableOptionTransformer".equals(setter))           { setNegatableOptionTransformer((INegatableOptionTransformer) value); }
+            else { throw new IllegalStateException("Unknown propagated setting " + setter); }
+        }
+    }
     private static boolean empty(String str) { return str == null || str.trim().length() == 0; }
     private static boolean empty(Object[] array) { return array == null || array.length == 0; }
     private static String str(String[] arr, int i) { return (arr == null || arr.length <= i) ? "" : arr[i]; }
@@ -4133,6 +4361,19 @@ public class CommandLine {
          * @since 4.2 */
         boolean subcommandsRepeatable() default false;
 
+        /** Returns whether the {@linkplain #subcommands() declaratively registered subcommands} of this command should be instantiated lazily.
+         * <p>By default, constructing a {@code CommandLine} instantiates the full hierarchy of subcommands.
+         * When this attribute is {@code true}, the subcommands of this command are only registered by name and aliases,
+         * and a subcommand is instantiated when the parser matches its name, or when the full subcommand map is needed,
+         * for example to show the usage help message or to generate a completion script.
+         * Applications with many subcommands where a typical invocation only uses one of them can use this to reduce startup time.</p>
+         * <p>Settings that are applied to this command with {@code CommandLine} setters that propagate to subcommands
+         * are applied to lazy subcommands when they are instantiated.
+         * Errors in the definition of a lazy subcommand are reported when the subcommand is instantiated, not when this command is constructed.
+         * Subcommands whose name or aliases contain variables are never lazy.</p>
+         * @since 4.3 */
+        boolean lazySubcommands() default false;
+
         /** Specify whether methods annotated with {@code @Command} should be registered as subcommands of their
          * enclosing {@code @Command} class.
          * The default is {@code true}. For example:
@@ -4554,6 +4795,29 @@ public class CommandLine {
          */
         String defaultValue(ArgSpec argSpec) throws Exception;
     }
+
+    /**
+     * Default value provider that looks up the default values of all options and positional parameters of a command at once.
+     * Before applying default values, the parser calls {@link #defaultValues(CommandSpec, Collection)} once for each command
+     * it parses, instead of calling {@link #defaultValue(ArgSpec)} for each option and positional parameter.
+     * This allows providers that obtain their values from a remote store to fetch them in a single request.
+     * <p>
+     * The {@link #defaultValue(ArgSpec)} method is still used to look up individual default values,
+     * for example when the usage help message shows default values.
+     * </p>
+     * @since 4.3 */
+    public interface IBatchDefaultValueProvider extends IDefaultValueProvider {
+
+        /** Returns the default values for the specified options and positional parameters.
+         * The returned values are converted in the same way as the values returned by {@link #defaultValue(ArgSpec)}.
+         * @param commandSpec the command whose default values are needed, never {@code null}
+         * @param argSpecs the options and positional parameters of the command, including those in argument groups
+         * @return a map with the default values of the options and positional parameters this provider has a default value for;
+         *       options and positional parameters that are not in the map get their annotated default value or initial value
+         * @throws Exception when there was a problem obtaining the default values
+         */
+        Map<ArgSpec, String> defaultValues(CommandSpec commandSpec, Collection<ArgSpec> argSpecs) throws Exception;
+    }
     private static class NoDefaultProvider implements IDefaultValueProvider {
         public String defaultValue(ArgSpec argSpec) { throw new UnsupportedOperationException(); }
     }
@@ -4913,15 +5177,19 @@ public class CommandLine {
                 } catch (Exception ignored) { }
                 return cls.cast(new LinkedHashMap<Object, Object>());
             }
-            try {
-                @SuppressWarnings("deprecation") // Class.newInstance is deprecated in Java 9
-                T result = cls.newInstance();
-                return result;
-            } catch (Exception ex) {
-                Constructor<T> constructor = cls.getDeclaredConstructor();
-                constructor.setAccessible(true);
-                return constructor.newInstance();
+            if (Modifier.isPublic(cls.getModifiers())) {
+                try {
+                    @SuppressWarnings("deprecation") // Class.newInstance is deprecated in Java 9
+                    T result = cls.newInstance();
+                    return result;
+                } catch (Exception ex) {
+                    // fall through: try the declared constructor below
+                }
             }
+            // non-public classes: Class.newInstance would throw an IllegalAccessException, which is expensive in deep call stacks
+            Constructor<T> constructor = cls.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
         }
         private static ITypeConverter<?>[] createConverter(IFactory factory, Class<? extends ITypeConverter<?>>[] classes) {
             ITypeConverter<?>[] result = new ITypeConverter<?>[classes.length];
@@ -5093,6 +5361,7 @@ public class CommandLine {
             return result;
         }
         private static int parseInt(String str, int defaultValue) {
+            if (str.length() == 0 || str.charAt(0) == '*') { return defaultValue; } // common cases: avoid throwing an exception
             try {
                 return Integer.parseInt(str);
             } catch (Exception ex) {
@@ -5263,7 +5532,9 @@ public class CommandLine {
             static final Boolean DEFAULT_SUBCOMMANDS_REPEATABLE = false;
 
             private final Map<String, CommandLine> commands = new LinkedHashMap<String, CommandLine>();
+            private final Map<String, LazySubcommand> lazySubcommands = new HashMap<String, LazySubcommand>();
             private final Map<String, OptionSpec> optionsByNameMap = new LinkedHashMap<String, OptionSpec>();
+            private String[] sortedOptionNames; // lazily created by resemblesOption; reset when options are added or removed
             private final Map<String, OptionSpec> negatedOptionsByNameMap = new LinkedHashMap<String, OptionSpec>();
             private final Map<Character, OptionSpec> posixOptionsByKeyMap = new LinkedHashMap<Character, OptionSpec>();
             private final Map<String, CommandSpec> mixins = new LinkedHashMap<String, CommandSpec>();
@@ -5272,6 +5543,8 @@ public class CommandLine {
             private final List<ArgSpec> args = new ArrayList<ArgSpec>();
             private final List<OptionSpec> options = new ArrayList<OptionSpec>();
             private final List<PositionalParamSpec> positionalParameters = new ArrayList<PositionalParamSpec>();
+            private int[] positionalSegmentStarts; // lazily created by positionalParametersAt; reset when positionals are added or removed
+            private PositionalParamSpec[][] positionalsBySegment;
             private final List<UnmatchedArgsBinding> unmatchedArgs = new ArrayList<UnmatchedArgsBinding>();
             private final List<IAnnotatedElement> specElements = new ArrayList<IAnnotatedElement>();
             private final List<IAnnotatedElement> parentCommandElements = new ArrayList<IAnnotatedElement>();
@@ -5394,7 +5667,7 @@ public class CommandLine {
                 for (CommandSpec mixedInSpec : mixins.values()) {
                     mixedInSpec.commandLine(commandLine);
                 }
-                for (CommandLine sub : commands.values()) {
+                for (CommandLine sub : initializedSubcommands()) {
                     sub.getCommandSpec().parent(this);
                 }
                 return this;
@@ -5454,8 +5727,77 @@ public class CommandLine {
                 for (ArgGroupSpec group : argGroups()) { group.messages(usageMessage().messages()); }
             }
 
-            /** Returns a read-only view of the subcommand map. */
-            public Map<String, CommandLine> subcommands() { return Collections.unmodifiableMap(commands); }
+            /** Returns a read-only view of the subcommand map.
+             * {@linkplain Command#lazySubcommands() Lazy subcommands} that have not been used yet are instantiated by this method. */
+            public Map<String, CommandLine> subcommands() {
+                while (!lazySubcommands.isEmpty()) { initLazySubcommand(lazySubcommands.values().iterator().next()); }
+                return Collections.unmodifiableMap(commands);
+            }
+
+            /** Returns the subcommands that have been instantiated, without instantiating any lazy subcommands. */
+            List<CommandLine> initializedSubcommands() {
+                List<CommandLine> result = new ArrayList<CommandLine>(commands.size());
+                for (CommandLine sub : commands.values()) {
+                    if (sub != null) { result.add(sub); }
+                }
+                return result;
+            }
+
+            /** Returns the subcommand registered under the specified name or alias, or {@code null} if no such subcommand exists.
+             * If this is a lazy subcommand that has not been used yet, only this subcommand is instantiated. */
+            CommandLine lookupSubcommand(String name) {
+                LazySubcommand lazy = lazySubcommands.get(name);
+                if (lazy != null) { initLazySubcommand(lazy); }
+                return commands.get(name);
+            }
+
+            /** Registers the specified subcommand class under the specified names, without instantiating it yet.
+             * @see Command#lazySubcommands() */
+            void addLazySubcommand(String name, String[] aliases, Class<?> cls, IFactory factory) {
+                Tracer t = new Tracer();
+                if (t.isDebug()) {t.debug("Adding lazy subcommand '%s' to '%s'%n", name, this.qualifiedName());}
+                LazySubcommand lazy = new LazySubcommand(name, cls, factory);
+                putLazySubcommand(name, lazy, "Another subcommand named '" + name + "' already exists for command '" + this.name() + "'");
+                for (String alias : aliases) {
+                    putLazySubcommand(alias, lazy, "Alias '" + alias + "' for subcommand '" + name + "' is already used by another subcommand of '" + this.name() + "'");
+                }
+            }
+            private void putLazySubcommand(String key, LazySubcommand lazy, String errorMessage) {
+                LazySubcommand previous = lazySubcommands.get(key);
+                if ((commands.containsKey(key) && previous == null) || (previous != null && previous != lazy)) { throw new InitializationException(errorMessage); }
+                commands.put(key, null); // reserve the position so the subcommand order does not change when it is instantiated
+                lazySubcommands.put(key, lazy);
+                lazy.keys.add(key);
+            }
+            private void initLazySubcommand(LazySubcommand lazy) {
+                for (String key : lazy.keys) { lazySubcommands.remove(key); }
+                CommandLine sub;
+                try {
+                    sub = CommandReflection.addSubcommand(this, lazy.cls, lazy.factory);
+                } finally {
+                    for (String key : lazy.keys) {
+                        if (commands.get(key) == null) { commands.remove(key); }
+                    }
+                }
+                if (commandLine != null) { sub.applyPropagatedSettings(commandLine); }
+            }
+            /** Returns an object identifying the subcommand registered under the specified name or alias, without instantiating lazy subcommands. */
+            Object subcommandKey(String name) {
+                CommandLine result = commands.get(name);
+                return result != null ? result : lazySubcommands.get(name);
+            }
+            /** A subcommand class that is registered under one or more names but has not been instantiated yet. */
+            private static class LazySubcommand {
+                final String name;
+                final Class<?> cls;
+                final IFactory factory;
+                final List<String> keys = new ArrayList<String>();
+                LazySubcommand(String name, Class<?> cls, IFactory factory) {
+                    this.name = name;
+                    this.cls = cls;
+                    this.factory = factory;
+                }
+            }
 
             /** Adds the specified subcommand with the specified name.
              * If the specified subcommand does not have a ResourceBundle set, it is initialized to the ResourceBundle of this command spec.
@@ -5490,12 +5832,14 @@ public class CommandLine {
                 String actualName = validateSubcommandName(name, subSpec);
                 Tracer t = new Tracer();
                 if (t.isDebug()) {t.debug("Adding subcommand '%s' to '%s'%n", actualName, this.qualifiedName());}
+                if (lazySubcommands.containsKey(actualName)) { throw new InitializationException("Another subcommand named '" + actualName + "' already exists for command '" + this.name() + "'"); }
                 CommandLine previous = commands.put(actualName, subCommandLine);
                 if (previous != null && previous != subCommandLine) { throw new InitializationException("Another subcommand named '" + actualName + "' already exists for command '" + this.name() + "'"); }
                 if (subSpec.name == null) { subSpec.name(actualName); }
                 subSpec.parent(this);
                 for (String alias : subSpec.aliases()) {
                     if (t.isDebug()) {t.debug("Adding alias '%s' for '%s'%n", (parent == null ? "" : parent.qualifiedName() + " ") + alias, this.qualifiedName());}
+                    if (lazySubcommands.containsKey(alias)) { throw new InitializationException("Alias '" + alias + "' for subcommand '" + actualName + "' is already used by another subcommand of '" + this.name() + "'"); }
                     previous = commands.put(alias, subCommandLine);
                     if (previous != null && previous != subCommandLine) { throw new InitializationException("Alias '" + alias + "' for subcommand '" + actualName + "' is already used by another subcommand of '" + this.name() + "'"); }
                 }
@@ -5526,7 +5870,7 @@ public class CommandLine {
                 if (resourceBundle() == null && resourceBundleBaseName() == null) {
                     setBundle(bundleBaseName, rb);
                 }
-                for (CommandLine sub : commands.values()) { // percolate down the hierarchy
+                for (CommandLine sub : initializedSubcommands()) { // percolate down the hierarchy
                     sub.getCommandSpec().initCommandHierarchyWithResourceBundle(bundleBaseName, rb);
                 }
             }
@@ -5610,6 +5954,7 @@ public class CommandLine {
              * @throws DuplicateOptionAnnotationsException if any of the names of the specified option is the same as the name of another option */
             public CommandSpec addOption(OptionSpec option) {
                 Tracer tracer = new Tracer();
+                sortedOptionNames = null;
                 for (String name : interpolator.interpolate(option.names())) { // cannot be null or empty
                     OptionSpec existing = optionsByNameMap.put(name, option);
                     if (existing != null) { /* was: && !existing.equals(option)) {*/ // since 4.0 ArgGroups: an option cannot be in multiple groups
@@ -5621,7 +5966,7 @@ public class CommandLine {
                 addOptionNegative(option, tracer);
                 if (option.scopeType() == ScopeType.SUBTREE) {
                     Set<CommandLine> done = new HashSet<CommandLine>();
-                    for (CommandLine sub : subcommands().values()) {
+                    for (CommandLine sub : initializedSubcommands()) { // lazy subcommands get this option when they are instantiated
                         if (!done.contains(sub)) {
                             sub.getCommandSpec().addOption(OptionSpec.builder(option).build());
                             done.add(sub);
@@ -5670,6 +6015,7 @@ public class CommandLine {
              * @return this CommandSpec for method chaining */
             public CommandSpec addPositional(PositionalParamSpec positional) {
                 positionalParameters.add(positional);
+                positionalSegmentStarts = null;
                 addArg(positional);
                 if (positional.index().isUnresolved()) {
                     positional.index = Range.valueOf(interpolator.interpolate(positional.index().originalValue));
@@ -5705,8 +6051,10 @@ public class CommandLine {
                 requiredArgs.remove(arg);
                 options.remove(arg);
                 if (positionalParameters.remove(arg)) {
+                    positionalSegmentStarts = null;
                     removed++;
                 }
+                sortedOptionNames = null;
                 if (removed == 0) {
                     throw new NoSuchElementException(String.valueOf(arg));
                 }
@@ -5877,6 +6225,39 @@ public class CommandLine {
              * @return an immutable list of positional parameters that this command recognizes. */
             public List<PositionalParamSpec> positionalParameters() { return Collections.unmodifiableList(positionalParameters); }
 
+            /** Returns the positional parameters that may take a value at the specified command-local position, in declaration order:
+             * the ungrouped positional parameters whose index range contains the position, and all positional parameters in groups
+             * (these have group-local positions, so the caller needs to check their index range).
+             * The index ranges split the positions into segments that each have a fixed set of positional parameters;
+             * the segments are computed once, so finding the positional parameters for a position is a binary search. */
+            PositionalParamSpec[] positionalParametersAt(int position) {
+                if (positionalSegmentStarts == null) { indexPositionalSegments(); }
+                int i = Arrays.binarySearch(positionalSegmentStarts, position);
+                return positionalsBySegment[i >= 0 ? i : -i - 2];
+            }
+            private void indexPositionalSegments() {
+                SortedSet<Integer> starts = new TreeSet<Integer>();
+                starts.add(0);
+                for (PositionalParamSpec positional : positionalParameters) {
+                    if (positional.group() != null) { continue; }
+                    starts.add(Math.max(0, positional.index().min()));
+                    if (positional.index().max() < Integer.MAX_VALUE) { starts.add(positional.index().max() + 1); }
+                }
+                int[] segmentStarts = new int[starts.size()];
+                PositionalParamSpec[][] bySegment = new PositionalParamSpec[starts.size()][];
+                int segment = 0;
+                for (Integer start : starts) {
+                    List<PositionalParamSpec> positionals = new ArrayList<PositionalParamSpec>();
+                    for (PositionalParamSpec positional : positionalParameters) {
+                        if (positional.group() != null || positional.index().contains(start)) { positionals.add(positional); }
+                    }
+                    segmentStarts[segment] = start;
+                    bySegment[segment++] = positionals.toArray(new PositionalParamSpec[0]);
+                }
+                positionalsBySegment = bySegment;
+                positionalSegmentStarts = segmentStarts;
+            }
+
             /** Returns the {@linkplain ArgGroupSpec argument groups} in this command.
              * @return an immutable list of groups of options and positional parameters in this command
              * @since 4.0 */
@@ -6131,6 +6512,7 @@ public class CommandLine {
                     CommandSpec helpMixin = mixins.remove(AutoHelpMixin.KEY);
                     if (helpMixin != null) {
                         options.removeAll(helpMixin.options);
+                        sortedOptionNames = null;
                         for (OptionSpec option : helpMixin.options()) {
                             for (String name : interpolator.interpolate(option.names())) {
                                 optionsByNameMap.remove(name);
@@ -6264,16 +6646,41 @@ public class CommandLine {
                     if (tracer != null && tracer.isDebug()) {tracer.debug("'%s' %s an option%n", arg, (result ? "resembles" : "doesn't resemble"));}
                     return result;
                 }
-                int count = 0;
-                for (String optionName : optionsMap().keySet()) {
-                    for (int i = 0; i < arg.length(); i++) {
-                        if (optionName.length() > i && arg.charAt(i) == optionName.charAt(i)) { count++; } else { break; }
-                    }
+                if (sortedOptionNames == null) {
+                    sortedOptionNames = optionsByNameMap.keySet().toArray(new String[0]);
+                    Arrays.sort(sortedOptionNames);
                 }
+                int count = commonPrefixChars(sortedOptionNames, arg);
                 boolean result = count > 0 && count * 10 >= optionsMap().size() * 9; // at least one prefix char in common with 9 out of 10 options
                 if (tracer != null && tracer.isDebug()) {tracer.debug("'%s' %s an option: %d matching prefix chars out of %d option names%n", arg, (result ? "resembles" : "doesn't resemble"), count, optionsMap().size());}
                 return result;
             }
+            /** Returns the total number of prefix characters that the specified argument has in common with each of the specified names.
+             * Because the names are sorted, the names sharing the first {@code i} characters with the argument form a contiguous range
+             * that is narrowed with a binary search for each next character, so the cost depends on the length of the longest
+             * shared prefix, not on the number of names. */
+            static int commonPrefixChars(String[] sortedNames, String arg) {
+                int count = 0;
+                int lo = 0;
+                int hi = sortedNames.length;
+                for (int i = 0; i < arg.length() && lo < hi; i++) {
+                    int c = arg.charAt(i);
+                    lo = firstIndexWithCharAtLeast(sortedNames, lo, hi, i, c);
+                    hi = firstIndexWithCharAtLeast(sortedNames, lo, hi, i, c + 1);
+                    count += hi - lo;
+                }
+                return count;
+            }
+            /** Returns the first index in the range whose name has a character at the specified position that is not less than the
+             * specified character. Names that are too short sort first; all names in the range share the preceding characters. */
+            private static int firstIndexWithCharAtLeast(String[] sortedNames, int lo, int hi, int pos, int c) {
+                while (lo < hi) {
+                    int mid = (lo + hi) >>> 1;
+                    int midChar = sortedNames[mid].length() > pos ? sortedNames[mid].charAt(pos) : -1;
+                    if (midChar < c) { lo = mid + 1; } else { hi = mid; }
+                }
+                return lo;
+            }
         }
         private static boolean initializable(Object current, Object candidate, Object defaultValue) {
             return current == null && isNonDefault(candidate, defaultValue);
@@ -7188,6 +7595,11 @@ public class CommandLine {
             private boolean useSimplifiedAtFiles = false;
             private Character atFileCommentChar = '#';
             private boolean posixClusteredShortOptionsAllowed = true;
+            private boolean abbreviatedSubcommandsAllowed = false;
+            private boolean abbreviatedOptionsAllowed = false;
+            private int converterCacheSize = 0;
+            private boolean lazyTypeConversion = false;
+            private int traceHistorySize = 0;
             private boolean unmatchedOptionsArePositionalParams = false;
             private boolean limitSplit = false;
             private boolean aritySatisfiedByAttachedOptionParam = false;
@@ -7229,6 +7641,21 @@ public class CommandLine {
             }
             /** @see CommandLine#isPosixClusteredShortOptionsAllowed() */
             public boolean posixClusteredShortOptionsAllowed() { return posixClusteredShortOptionsAllowed; }
+            /** @see CommandLine#isAbbreviatedSubcommandsAllowed()
+             * @since 4.3 */
+            public boolean abbreviatedSubcommandsAllowed()     { return abbreviatedSubcommandsAllowed; }
+            /** @see CommandLine#isAbbreviatedOptionsAllowed()
+             * @since 4.3 */
+            public boolean abbreviatedOptionsAllowed()         { return abbreviatedOptionsAllowed; }
+            /** @see CommandLine#getConverterCacheSize()
+             * @since 4.3 */
+            public int converterCacheSize()                    { return converterCacheSize; }
+            /** @see CommandLine#isLazyTypeConversion()
+             * @since 4.3 */
+            public boolean lazyTypeConversion()                { return lazyTypeConversion; }
+            /** @see CommandLine#getTraceHistorySize()
+             * @since 4.3 */
+            public int traceHistorySize()                      { return traceHistorySize; }
             /** @see CommandLine#isCaseInsensitiveEnumValuesAllowed()
              * @since 3.4 */
             public boolean caseInsensitiveEnumValuesAllowed()  { return caseInsensitiveEnumValuesAllowed; }
@@ -7277,6 +7704,29 @@ public class CommandLine {
             public ParserSpec useSimplifiedAtFiles(boolean useSimplifiedAtFiles)           { this.useSimplifiedAtFiles = useSimplifiedAtFiles; return this; }
             /** @see CommandLine#setPosixClusteredShortOptionsAllowed(boolean) */
             public ParserSpec posixClusteredShortOptionsAllowed(boolean posixClusteredShortOptionsAllowed) { this.posixClusteredShortOptionsAllowed = posixClusteredShortOptionsAllowed; return this; }
+            /** @see CommandLine#setAbbreviatedSubcommandsAllowed(boolean)
+             * @since 4.3 */
+            public ParserSpec abbreviatedSubcommandsAllowed(boolean abbreviatedSubcommandsAllowed) { this.abbreviatedSubcommandsAllowed = abbreviatedSubcommandsAllowed; return this; }
+            /** @see CommandLine#setAbbreviatedOptionsAllowed(boolean)
+             * @since 4.3 */
+            public ParserSpec abbreviatedOptionsAllowed(boolean abbreviatedOptionsAllowed) { this.abbreviatedOptionsAllowed = abbreviatedOptionsAllowed; return this; }
+            /** @see CommandLine#setConverterCacheSize(int)
+             * @since 4.3 */
+            public ParserSpec converterCacheSize(int converterCacheSize) {
+                if (converterCacheSize < 0) { throw new InitializationException("Invalid converter cache size " + converterCacheSize + ". Value must not be negative"); }
+                this.converterCacheSize = converterCacheSize;
+                return this;
+            }
+            /** @see CommandLine#setLazyTypeConversion(boolean)
+             * @since 4.3 */
+            public ParserSpec lazyTypeConversion(boolean lazyTypeConversion) { this.lazyTypeConversion = lazyTypeConversion; return this; }
+            /** @see CommandLine#setTraceHistorySize(int)
+             * @since 4.3 */
+            public ParserSpec traceHistorySize(int traceHistorySize) {
+                if (traceHistorySize < 0) { throw new InitializationException("Invalid trace history size " + traceHistorySize + ". Value must not be negative"); }
+                this.traceHistorySize = traceHistorySize;
+                return this;
+            }
             /** @see CommandLine#setCaseInsensitiveEnumValuesAllowed(boolean)
              * @since 3.4 */
             public ParserSpec caseInsensitiveEnumValuesAllowed(boolean caseInsensitiveEnumValuesAllowed) { this.caseInsensitiveEnumValuesAllowed = caseInsensitiveEnumValuesAllowed; return this; }
@@ -7313,12 +7763,14 @@ public class CommandLine {
                                 "separator=%s, overwrittenOptionsAllowed=%s, unmatchedArgumentsAllowed=%s, expandAtFiles=%s, " +
                                 "atFileCommentChar=%s, useSimplifiedAtFiles=%s, endOfOptionsDelimiter=%s, limitSplit=%s, aritySatisfiedByAttachedOptionParam=%s, " +
                                 "toggleBooleanFlags=%s, unmatchedOptionsArePositionalParams=%s, collectErrors=%s," +
-                                "caseInsensitiveEnumValuesAllowed=%s, trimQuotes=%s, splitQuotedStrings=%s",
+                                "caseInsensitiveEnumValuesAllowed=%s, trimQuotes=%s, splitQuotedStrings=%s, " +
+                                "abbreviatedSubcommandsAllowed=%s, abbreviatedOptionsAllowed=%s, converterCacheSize=%s, lazyTypeConversion=%s, traceHistorySize=%s",
                         posixClusteredShortOptionsAllowed, stopAtPositional, stopAtUnmatched,
                         separator, overwrittenOptionsAllowed, unmatchedArgumentsAllowed, expandAtFiles,
                         atFileCommentChar, useSimplifiedAtFiles, endOfOptionsDelimiter, limitSplit, aritySatisfiedByAttachedOptionParam,
                         toggleBooleanFlags, unmatchedOptionsArePositionalParams, collectErrors,
-                        caseInsensitiveEnumValuesAllowed, trimQuotes, splitQuotedStrings);
+                        caseInsensitiveEnumValuesAllowed, trimQuotes, splitQuotedStrings,
+                        abbreviatedSubcommandsAllowed, abbreviatedOptionsAllowed, converterCacheSize, lazyTypeConversion, traceHistorySize);
             }
 
             void initFrom(ParserSpec settings) {
@@ -7332,6 +7784,11 @@ public class CommandLine {
                 expandAtFiles = settings.expandAtFiles;
                 atFileCommentChar = settings.atFileCommentChar;
                 posixClusteredShortOptionsAllowed = settings.posixClusteredShortOptionsAllowed;
+                abbreviatedSubcommandsAllowed = settings.abbreviatedSubcommandsAllowed;
+                abbreviatedOptionsAllowed = settings.abbreviatedOptionsAllowed;
+                converterCacheSize = settings.converterCacheSize;
+                lazyTypeConversion = settings.lazyTypeConversion;
+                traceHistorySize = settings.traceHistorySize;
                 unmatchedOptionsArePositionalParams = settings.unmatchedOptionsArePositionalParams;
                 limitSplit = settings.limitSplit;
                 aritySatisfiedByAttachedOptionParam = settings.aritySatisfiedByAttachedOptionParam;
@@ -7365,6 +7822,7 @@ public class CommandLine {
             private boolean required;
             private final boolean interactive;
             private final String splitRegex;
+            private Pattern splitPattern; // the compiled interpolated splitRegex, see #splitPattern(String)
             private final ITypeInfo typeInfo;
             private final ITypeConverter<?>[] converters;
             private final Iterable<String> completionCandidates;
@@ -7447,12 +7905,12 @@ public class CommandLine {
                 if (hasInitialValue()) {
                     try {
                         setter().set(initialValue());
-                        tracer.debug("Set initial value for %s of type %s to %s.%n", this, type(), String.valueOf(initialValue()));
+                        if (tracer.isDebug()) { tracer.debug("Set initial value for %s of type %s to %s.%n", this, type(), String.valueOf(initialValue())); }
                     } catch (Exception ex) {
                         tracer.warn("Could not set initial value for %s of type %s to %s: %s%n", this, type(), String.valueOf(initialValue()), ex);
                     }
                 } else {
-                    tracer.debug("Initial value not available for %s%n", this);
+                    if (tracer.isDebug()) { tracer.debug("Initial value not available for %s%n", this); }
                 }
             }
 
@@ -7724,7 +8182,10 @@ public class CommandLine {
             /** Returns the typed command line arguments matched by this option or positional parameter spec.
              * @return the matched arguments after {@linkplain #splitRegex() splitting} and type conversion.
              *      For map properties, {@code "key=value"} values are split into the key and the value part. */
-            public List<Object> typedValues() { return Collections.unmodifiableList(typedValues); }
+            public List<Object> typedValues() {
+                for (int i = 0; i < typedValues.size(); i++) { typedValues.set(i, DeferredValue.resolve(typedValues.get(i))); }
+                return Collections.unmodifiableList(typedValues);
+            }
 
             /** Sets the {@code stringValues} to a new list instance. */
             protected void resetStringValues() { stringValues = new ArrayList<String>(); }
@@ -7771,20 +8232,32 @@ public class CommandLine {
             }
 
             String[] splitValue(String value, ParserSpec parser, Range arity, int consumed) {
-                if (splitRegex().length() == 0) { return new String[] {value}; }
+                String regex = splitRegex();
+                if (regex.length() == 0) { return new String[] {value}; }
                 int limit = parser.limitSplit() ? Math.max(arity.max - consumed, 0) : 0;
+                Pattern pattern = splitPattern(regex);
                 if (parser.splitQuotedStrings()) {
-                    return debug(value.split(splitRegex(), limit), "Split (ignoring quotes)", value);
+                    return debug(pattern.split(value, limit), "Split (ignoring quotes)", regex);
                 }
-                return debug(splitRespectingQuotedStrings(value, limit, parser, this, splitRegex()), "Split", value);
+                return debug(splitRespectingQuotedStrings(value, limit, parser, this, pattern), "Split", regex);
             }
-            private String[] debug(String[] result, String msg, String value) {
-                Tracer t = new Tracer();
-                if (t.isDebug()) {t.debug("%s with regex '%s' resulted in %s parts: %s%n", msg, splitRegex(), result.length, Arrays.asList(result));}
+            /** Returns the compiled split regex. The pattern is kept until the interpolated regex changes,
+             * instead of compiling the regex again for every value, as {@code String.split} does. */
+            private Pattern splitPattern(String regex) {
+                Pattern result = splitPattern;
+                if (result == null || !result.pattern().equals(regex)) {
+                    splitPattern = result = Pattern.compile(regex);
+                }
+                return result;
+            }
+            private String[] debug(String[] result, String msg, String regex) {
+                // called for every split value: use the tracer of the CommandLine, if any, instead of creating a new one
+                Tracer t = commandSpec != null && commandSpec.commandLine() != null ? commandSpec.commandLine().tracer : new Tracer();
+                if (t.isDebug()) {t.debug("%s with regex '%s' resulted in %s parts: %s%n", msg, regex, result.length, Arrays.asList(result));}
                 return result;
             }
             // @since 3.7
-            private static String[] splitRespectingQuotedStrings(String value, int limit, ParserSpec parser, ArgSpec argSpec, String splitRegex) {
+            private static String[] splitRespectingQuotedStrings(String value, int limit, ParserSpec parser, ArgSpec argSpec, Pattern splitRegex) {
                 Queue<String> quotedValues = new LinkedList<String>();
                 StringBuilder splittable = new StringBuilder();
                 StringBuilder temp = new StringBuilder();
@@ -7818,13 +8291,13 @@ public class CommandLine {
                     temp.setLength(0);
                 }
                 // if value was 'a,b,"c,d",e' -> splittable now contains 'a,b,"",e', and quotedValues contains ['c,d']
-                String[] result = splittable.toString().split(splitRegex, limit);
+                String[] result = splitRegex.split(splittable.toString(), limit);
                 for (int i = 0; i < result.length; i++) {
                     result[i] = restoreQuotedValues(result[i], quotedValues, parser);
                 }
                 if (!quotedValues.isEmpty()) {
                     new Tracer().warn("Unable to respect quotes while splitting value %s for %s (unprocessed remainder: %s)%n", value, argSpec, quotedValues);
-                    return value.split(splitRegex, limit);
+                    return splitRegex.split(value, limit);
                 }
                 return result;
             }
@@ -8702,6 +9175,9 @@ public class CommandLine {
             private Messages messages;
             private ArgGroupSpec parentGroup;
             private String id = "1";
+            // trace message parameters: the synopsis is only rendered when a message is formatted, not when it is recorded in the trace history
+            private final Object traceSynopsis = new TraceHistory.LazyText() { public String toString() { return synopsis(); } };
+            private final Object traceSynopsisUnit = new TraceHistory.LazyText() { public String toString() { return synopsisUnit(); } };
 
             ArgGroupSpec(ArgGroupSpec.Builder builder) {
                 heading          = NO_HEADING    .equals(builder.heading)    ? null : builder.heading;
@@ -9008,12 +9484,13 @@ public class CommandLine {
             void tryInitUserObject(CommandLine commandLine) throws Exception {
                 Tracer tracer = commandLine.tracer;
                 if (typeInfo() != null) {
-                    tracer.debug("Creating new user object of type %s for group %s%n", typeInfo().getAuxiliaryTypes()[0], synopsis());
+                    if (tracer.isDebug()) { tracer.debug("Creating new user object of type %s for group %s%n", typeInfo().getAuxiliaryTypes()[0], traceSynopsis); }
                     Object userObject = DefaultFactory.create(commandLine.factory, typeInfo().getAuxiliaryTypes()[0]);
-                    tracer.debug("Created %s, invoking setter %s with scope %s%n", userObject, setter(), scope());
-                    setUserObject(userObject, commandLine.factory);
+                    commandLine.interpreter.applyPendingArrays(this); // before the scope of the args is replaced
+                    if (tracer.isDebug()) { tracer.debug("Created %s, invoking setter %s with scope %s%n", userObject, setter(), scope()); }
+                    setUserObject(userObject, commandLine);
                     for (ArgSpec arg : args()) {
-                        tracer.debug("Initializing %s in group %s: setting scope to user object %s and initializing initial and default values%n", ArgSpec.describe(arg, "="), synopsis(), userObject);
+                        if (tracer.isDebug()) { tracer.debug("Initializing %s in group %s: setting scope to user object %s and initializing initial and default values%n", ArgSpec.describe(arg, "="), traceSynopsis, userObject); }
                         arg.scope().set(userObject); // flip the actual user object for the arg (and all other args in this group; they share the same IScope instance)
                         commandLine.interpreter.parseResultBuilder.isInitializingDefaultValues = true;
                         arg.applyInitialValue(tracer);
@@ -9021,33 +9498,26 @@ public class CommandLine {
                         commandLine.interpreter.parseResultBuilder.isInitializingDefaultValues = false;
                     }
                     for (ArgGroupSpec subgroup : subgroups()) {
-                        tracer.debug("Setting scope for subgroup %s with setter=%s in group %s to user object %s%n", subgroup.synopsis(), subgroup.setter(), synopsis(), userObject);
+                        if (tracer.isDebug()) { tracer.debug("Setting scope for subgroup %s with setter=%s in group %s to user object %s%n", subgroup.traceSynopsis, subgroup.setter(), traceSynopsis, userObject); }
                         subgroup.scope().set(userObject); // flip the actual user object for the arg (and all other args in this group; they share the same IScope instance)
                     }
                 } else {
-                    tracer.debug("No type information available for group %s: cannot create new user object. Scope for arg setters is not changed.%n", synopsis());
+                    if (tracer.isDebug()) { tracer.debug("No type information available for group %s: cannot create new user object. Scope for arg setters is not changed.%n", traceSynopsis); }
                 }
-                tracer.debug("Initialization complete for group %s%n", synopsis());
+                if (tracer.isDebug()) { tracer.debug("Initialization complete for group %s%n", traceSynopsis); }
             }
 
-            void setUserObject(Object userObject, IFactory factory) throws Exception {
+            void setUserObject(Object userObject, CommandLine commandLine) throws Exception {
                 if (typeInfo().isCollection()) {
                     @SuppressWarnings("unchecked") Collection<Object> c = (Collection<Object>) getter().get();
                     if (c == null) {
                         @SuppressWarnings("unchecked")
-                        Collection<Object> c2 = (Collection<Object>) DefaultFactory.create(factory, typeInfo.getType());
+                        Collection<Object> c2 = (Collection<Object>) DefaultFactory.create(commandLine.factory, typeInfo.getType());
                         setter().set(c = c2);
                     }
                     (c).add(userObject);
                 } else if (typeInfo().isArray()) {
-                    Object old = getter().get();
-                    int oldSize = old == null ? 0 : Array.getLength(old);
-                    Object array = Array.newInstance(typeInfo().getAuxiliaryTypes()[0], oldSize + 1);
-                    for (int i = 0; i < oldSize; i++) {
-                        Array.set(array, i, Array.get(old, i));
-                    }
-                    Array.set(array, oldSize, userObject);
-                    setter().set(array);
+                    commandLine.interpreter.addPendingGroupValue(this, userObject); // array is created at the end of the parse
                 } else {
                     setter().set(userObject);
                 }
@@ -9992,19 +10462,12 @@ public class CommandLine {
                     if (hierarchy.contains(sub)) {
                         throw new InitializationException(cmd.name() + " (" + cls.getName() + ") has a subcommand (" + sub.getName() + ") that is a subclass of itself");
                     }
-                    try {
-                        if (Help.class == sub) { throw new InitializationException(Help.class.getName() + " is not a valid subcommand. Did you mean " + HelpCommand.class.getName() + "?"); }
-                        CommandLine subcommandLine = toCommandLine(sub, factory);
-                        parent.addSubcommand(subcommandName(sub), subcommandLine);
-                        subcommandLine.getCommandSpec().injectParentCommand(parent.userObject);
-                        for (CommandSpec mixin : subcommandLine.getCommandSpec().mixins().values()) {
-                            mixin.injectParentCommand(parent.userObject);
-                        }
-                    }
-                    catch (InitializationException ex) { throw ex; }
-                    catch (Exception ex) {
-                        throw new InitializationException("Could not instantiate and add subcommand " +
-                                sub.getName() + ": " + ex, ex);
+                    if (Help.class == sub) { throw new InitializationException(Help.class.getName() + " is not a valid subcommand. Did you mean " + HelpCommand.class.getName() + "?"); }
+                    Command subCommand = sub.getAnnotation(Command.class);
+                    if (cmd.lazySubcommands() && subCommand != null && !containsVariable(subCommand.name(), subCommand.aliases())) {
+                        parent.addLazySubcommand(subcommandName(sub), subCommand.aliases(), sub, factory);
+                    } else {
+                        addSubcommand(parent, sub, factory);
                     }
                 }
                 if (cmd.addMethodSubcommands() && cls != null) {
@@ -10016,6 +10479,28 @@ public class CommandLine {
                     }
                 }
             }
+            static CommandLine addSubcommand(CommandSpec parent, Class<?> sub, IFactory factory) {
+                try {
+                    CommandLine subcommandLine = toCommandLine(sub, factory);
+                    parent.addSubcommand(subcommandName(sub), subcommandLine);
+                    subcommandLine.getCommandSpec().injectParentCommand(parent.userObject);
+                    for (CommandSpec mixin : subcommandLine.getCommandSpec().mixins().values()) {
+                        mixin.injectParentCommand(parent.userObject);
+                    }
+                    return subcommandLine;
+                }
+                catch (InitializationException ex) { throw ex; }
+                catch (Exception ex) {
+                    throw new InitializationException("Could not instantiate and add subcommand " +
+                            sub.getName() + ": " + ex, ex);
+                }
+            }
+            /** Subcommands whose names need interpolation are never lazy: their names are only known after they are instantiated. */
+            private static boolean containsVariable(String name, String[] aliases) {
+                if (name.contains("${")) { return true; }
+                for (String alias : aliases) { if (alias.contains("${")) { return true; } }
+                return false;
+            }
             private static String subcommandName(Class<?> sub) {
                 Command subCommand = sub.getAnnotation(Command.class);
                 if (subCommand == null || Help.DEFAULT_COMMAND_NAME.equals(subCommand.name())) {
@@ -10026,14 +10511,44 @@ public class CommandLine {
             }
             private static boolean initFromAnnotatedFields(IScope scope, Class<?> cls, CommandSpec receiver, ArgGroupSpec.Builder groupBuilder, IFactory factory, Predicate<TypedMember> predicate) {
                 boolean result = false;
-                for (Field field : cls.getDeclaredFields()) {
+                AnnotatedMembers members = AnnotatedMembers.of(cls);
+                for (Field field : members.fields) {
                     result |= initFromAnnotatedTypedMembers(TypedMember.createIfAnnotated(field, scope), predicate, receiver, groupBuilder, factory);
                 }
-                for (Method method : cls.getDeclaredMethods()) {
+                for (Method method : members.methods) {
                     result |= initFromAnnotatedTypedMembers(TypedMember.createIfAnnotated(method, scope, receiver), predicate, receiver, groupBuilder, factory);
                 }
                 return result;
             }
+            /** The picocli-annotated fields and methods declared by a class, in declaration order.
+             * Instances are cached per class, so that building the model for a class that was inspected before
+             * (another {@code CommandLine} instance, a repeated subcommand, a mixin or arg group used in many places)
+             * does not scan all declared members and check all their annotations again.
+             * Cached entries are softly referenced and may be reclaimed when memory is low. */
+            static class AnnotatedMembers {
+                private static final Map<Class<?>, java.lang.ref.SoftReference<AnnotatedMembers>> cache =
+                        Collections.synchronizedMap(new WeakHashMap<Class<?>, java.lang.ref.SoftReference<AnnotatedMembers>>());
+                final List<Field> fields = new ArrayList<Field>();
+                final List<Method> methods = new ArrayList<Method>();
+
+                private AnnotatedMembers(Class<?> cls) {
+                    for (Field field : cls.getDeclaredFields()) {
+                        if (TypedMember.isAnnotated(field)) { fields.add(field); }
+                    }
+                    for (Method method : cls.getDeclaredMethods()) {
+                        if (TypedMember.isAnnotated(method)) { methods.add(method); }
+                    }
+                }
+                static AnnotatedMembers of(Class<?> cls) {
+                    java.lang.ref.SoftReference<AnnotatedMembers> ref = cache.get(cls);
+                    AnnotatedMembers result = ref == null ? null : ref.get();
+                    if (result == null) {
+                        result = new AnnotatedMembers(cls);
+                        cache.put(cls, new java.lang.ref.SoftReference<AnnotatedMembers>(result));
+                    }
+                    return result;
+                }
+            }
             @SuppressWarnings("unchecked")
             private static boolean initFromAnnotatedTypedMembers(TypedMember member,
                                                                  Predicate<TypedMember> predicate,
@@ -10265,27 +10780,42 @@ public class CommandLine {
         private static class PicocliInvocationHandler implements InvocationHandler {
             final Map<String, Object> map = new HashMap<String, Object>();
             public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-                return map.get(method.getName());
+                return get(method.getName());
             }
-            class ProxyBinding implements IGetter, ISetter {
+            private Object get(String name) {
+                Object value = map.get(name);
+                if (value instanceof DeferredValue) { // convert lazily on first access
+                    value = ((DeferredValue) value).resolve();
+                    map.put(name, value);
+                }
+                return value;
+            }
+            class ProxyBinding implements IGetter, ISetter, DeferredValueBinding {
                 private final Method method;
                 ProxyBinding(Method method) { this.method = Assert.notNull(method, "method"); }
-                @SuppressWarnings("unchecked") public <T> T get() { return (T) map.get(method.getName()); }
+                @SuppressWarnings("unchecked") public <T> T get() { return (T) PicocliInvocationHandler.this.get(method.getName()); }
                 public <T> T set(T value) {
                     T result = get();
                     map.put(method.getName(), value);
                     return result;
                 }
+                public Object unresolvedValue() { return map.get(method.getName()); }
+                public void setUnresolvedValue(Object value) { map.put(method.getName(), value); }
             }
         }
-        private static class ObjectBinding implements IGetter, ISetter {
+        private static class ObjectBinding implements IGetter, ISetter, DeferredValueBinding {
             private Object value;
-            @SuppressWarnings("unchecked") public <T> T get() { return (T) value; }
+            @SuppressWarnings("unchecked") public <T> T get() {
+                value = DeferredValue.resolve(value); // convert lazily on first access
+                return (T) value;
+            }
             public <T> T set(T value) {
                 @SuppressWarnings("unchecked") T result = value;
                 this.value = value;
                 return result;
             }
+            public Object unresolvedValue() { return value; }
+            public void setUnresolvedValue(Object value) { this.value = value; }
             public String toString() {
                 return String.format("%s(value=%s)", getClass().getSimpleName(), value);
             }
@@ -10431,19 +10961,25 @@ public class CommandLine {
                 return result;
             }
             public String interpolate(String original) {
-                if (original == null || !commandSpec.interpolateVariables()) { return original; }
+                if (!needsInterpolation(original)) { return original; }
                 return resolveLookups(original, new HashSet<String>(), new HashMap<String, String>());
             }
             public String interpolateCommandName(String original) {
-                if (original == null || !commandSpec.interpolateVariables()) { return original; }
+                if (!needsInterpolation(original)) { return original; }
                 return resolveLookups(original, new HashSet<String>(), new HashMap<String, String>());
             }
+            /** Text without a '$' character has no variables and no escaped '$$' to replace: it is returned as is.
+             * Most descriptions, labels and default values do not contain variables, and many of them are interpolated while parsing. */
+            private boolean needsInterpolation(String original) {
+                return original != null && original.indexOf('$') >= 0 && commandSpec.interpolateVariables();
+            }
 
             private String resolveLookups(String text, Set<String> visited, Map<String, String> resolved) {
                 if (text == null) { return null; }
-                for (String lookupKey : lookups.keySet()) {
-                    ILookup lookup = lookups.get(lookupKey);
-                    String prefix = "${" + lookupKey;
+                for (Map.Entry<String, ILookup> entry : lookups.entrySet()) {
+                    String prefix = "${" + entry.getKey();
+                    if (text.indexOf(prefix) < 0) { continue; } // no need to scan for unescaped occurrences
+                    ILookup lookup = entry.getValue();
                     int startPos = 0;
                     while ((startPos = findOpeningDollar(text, prefix, startPos)) >= 0) {
                         int endPos = findClosingBrace(text, startPos + prefix.length());
@@ -10453,18 +10989,17 @@ public class CommandLine {
 
                         int defaultStartPos = fullKey.indexOf(":-");
                         if (defaultStartPos >= 0) { actualKey = fullKey.substring(0, defaultStartPos); }
-                        String value = resolved.containsKey(prefix + actualKey)
-                                ? resolved.get(prefix + actualKey)
-                                : lookup.get(actualKey);
-                        if (visited.contains(prefix + actualKey) && !resolved.containsKey(prefix + actualKey)) {
-                            throw new InitializationException("Lookup '" + prefix + actualKey + "' has a circular reference.");
+                        String variable = prefix + actualKey;
+                        boolean isResolved = resolved.containsKey(variable);
+                        String value = isResolved ? resolved.get(variable) : lookup.get(actualKey);
+                        if (!isResolved && !visited.add(variable)) {
+                            throw new InitializationException("Lookup '" + variable + "' has a circular reference.");
                         }
-                        visited.add(prefix + actualKey);
                         if (value == null && defaultStartPos >= 0) {
                             String defaultValue = fullKey.substring(defaultStartPos + 2);
                             value = resolveLookups(defaultValue, visited, resolved);
                         }
-                        resolved.put(prefix + actualKey, value);
+                        resolved.put(variable, value);
                         if (value == null && startPos == 0 && endPos == text.length() - 1) {
                             return null; // #676 x="${var}" should resolve to x=null if not found (not x="null")
                         }
@@ -10854,7 +11389,13 @@ public class CommandLine {
                     String previousMatch = argSpec.required() ? "is required" : "has already been matched";
                     String elementDescription = ArgSpec.describe(argSpec, "=");
                     Tracer tracer = commandSpec.commandLine.tracer;
-                    tracer.info("GroupMatch %s is complete: its mandatory elements are all matched. (User object: %s.) %s %s in the group, so it starts a new GroupMatch.%n", foundGroupMatchContainer.lastMatch(), foundGroupMatchContainer.group.userObject(), elementDescription, previousMatch);
+                    if (tracer.isInfo()) {
+                        Object userObject = foundGroupMatchContainer.group.userObject();
+                        if (!tracer.isPrinting(TraceLevel.INFO) && userObject instanceof Collection) { // trace history: rendering all user objects for each match would make recording quadratic
+                            userObject = ((Collection<?>) userObject).size() + " user objects";
+                        }
+                        tracer.info("GroupMatch %s is complete: its mandatory elements are all matched. (User object: %s.) %s %s in the group, so it starts a new GroupMatch.%n", foundGroupMatchContainer.lastMatch(), userObject, elementDescription, previousMatch);
+                    }
                     foundGroupMatchContainer.addMatch(commandSpec.commandLine);
                     this.groupMatchContainer.findOrCreateMatchingGroup(argSpec, commandSpec.commandLine);
                 }
@@ -10915,14 +11456,21 @@ public class CommandLine {
             /** Returns the list of {@code GroupMatch} instances: {@code ArgGroupSpec}s with a multiplicity greater than one may be matched multiple times. */
             public List<GroupMatch> matches() { return Collections.unmodifiableList(matches); }
 
+            /** Returns this container for printed trace messages; the trace history records the number of matches instead,
+             * because rendering all matches for every recorded message would make recording quadratic. */
+            Object traceDescription(Tracer tracer, TraceLevel level) {
+                if (tracer.isPrinting(level)) { return this; }
+                return "{group " + (group == null ? "ROOT" : group.id()) + " with " + matches.size() + " matches}";
+            }
+
             void addMatch(CommandLine commandLine) {
                 Tracer tracer = commandLine == null ? new Tracer() : commandLine.tracer;
                 if (group != null && isMaxMultiplicityReached()) {
-                    tracer.info("Completing GroupMatchContainer %s: max multiplicity is reached.%n", this);
+                    if (tracer.isInfo()) { tracer.info("Completing GroupMatchContainer %s: max multiplicity is reached.%n", traceDescription(tracer, TraceLevel.INFO)); }
                     complete(commandLine);
                 } else {
                     if (group != null) {
-                        tracer.info("Adding match to GroupMatchContainer %s (group=%s %s).%n", this, group == null ? "?" : group.id(), group == null ? "ROOT" : group.synopsisUnit());
+                        if (tracer.isInfo()) { tracer.info("Adding match to GroupMatchContainer %s (group=%s %s).%n", traceDescription(tracer, TraceLevel.INFO), group == null ? "?" : group.id(), group == null ? "ROOT" : group.traceSynopsisUnit); }
                     }
                     matches.add(new GroupMatch(this));
                     if (group == null) { return; }
@@ -11313,90 +11861,82 @@ public class CommandLine {
     private enum LookBehind { SEPARATE, ATTACHED, ATTACHED_WITH_SEPARATOR;
         public boolean isAttached() { return this != LookBehind.SEPARATE; }
     }
+    /** A value that is computed when it is first read, see {@link CommandLine#setLazyTypeConversion(boolean)}.
+     * Bindings that support deferred values replace them with the resolved value on first access. */
+    private abstract static class DeferredValue {
+        abstract Object resolve();
+        static Object resolve(Object value) { return value instanceof DeferredValue ? ((DeferredValue) value).resolve() : value; }
+    }
+    /** A binding that supports {@link DeferredValue}s. The parser reads and replaces values through this interface
+     * without resolving them, so that a deferred value that is traced or replaced is not converted. */
+    private interface DeferredValueBinding {
+        Object unresolvedValue();
+        void setUnresolvedValue(Object value);
+    }
+    /** A default value converted by a built-in converter, reused while the default value text and converter don't change. */
+    private static class ConvertedDefault {
+        final ITypeConverter<?> converter;
+        final String text;
+        final Object value;
+        ConvertedDefault(ITypeConverter<?> converter, String text, Object value) {
+            this.converter = converter;
+            this.text = text;
+            this.value = value;
+        }
+    }
     /**
      * Helper class responsible for processing command line arguments.
      */
     private class Interpreter {
-        private final Map<Class<?>, ITypeConverter<?>> converterRegistry = new HashMap<Class<?>, ITypeConverter<?>>();
+        private Map<Class<?>, ITypeConverter<?>> converterRegistry;
+        private boolean converterRegistryCopied;
+        private final Map<Class<?>, EnumConverter> enumConverters = new HashMap<Class<?>, EnumConverter>();
+        private BuiltIn.ConvertedValueCache convertedValueCache; // only created if converterCacheSize > 0; kept between parses
+        private final Map<ArgSpec, ConvertedDefault> convertedDefaults = new IdentityHashMap<ArgSpec, ConvertedDefault>(); // kept between parses
+        private Map<ArgSpec, String> batchDefaultValues; // values from an IBatchDefaultValueProvider, or null
+        private final Pattern keyValueSeparator = Pattern.compile("=");
+        // values for array-typed args and groups are collected here and only copied into an array once, see #applyPendingArrays
+        private final Map<Object, List<Object>> pendingArrays = new IdentityHashMap<Object, List<Object>>();
+        private final List<Object> pendingArrayOrder = new ArrayList<Object>();
+        private String[] sortedSubcommandNames; // for abbreviated subcommands, lazily initialized
+        private String[] sortedOptionNames;     // for abbreviated options, lazily initialized
+        private final Stack<String> defaultValueArgs = new Stack<String>(); // reused by applyDefault
+        private final Set<ArgSpec> defaultValueInitialized = new HashSet<ArgSpec>();
         private boolean isHelpRequested;
         private int position;
         private int interactiveCount;
         private boolean endOfOptions;
         private ParseResult.Builder parseResultBuilder;
 
-        Interpreter() { registerBuiltInConverters(); }
-
-        private void registerBuiltInConverters() {
-            converterRegistry.put(Object.class,        new BuiltIn.StringConverter());
-            converterRegistry.put(String.class,        new BuiltIn.StringConverter());
-            converterRegistry.put(StringBuilder.class, new BuiltIn.StringBuilderConverter());
-            converterRegistry.put(char[].class,        new BuiltIn.CharArrayConverter());
-            converterRegistry.put(CharSequence.class,  new BuiltIn.CharSequenceConverter());
-            converterRegistry.put(Byte.class,          new BuiltIn.ByteConverter());
-            converterRegistry.put(Byte.TYPE,           new BuiltIn.ByteConverter());
-            converterRegistry.put(Boolean.class,       new BuiltIn.BooleanConverter());
-            converterRegistry.put(Boolean.TYPE,        new BuiltIn.BooleanConverter());
-            converterRegistry.put(Character.class,     new BuiltIn.CharacterConverter());
-            converterRegistry.put(Character.TYPE,      new BuiltIn.CharacterConverter());
-            converterRegistry.put(Short.class,         new BuiltIn.ShortConverter());
-            converterRegistry.put(Short.TYPE,          new BuiltIn.ShortConverter());
-            converterRegistry.put(Integer.class,       new BuiltIn.IntegerConverter());
-            converterRegistry.put(Integer.TYPE,        new BuiltIn.IntegerConverter());
-            converterRegistry.put(Long.class,          new BuiltIn.LongConverter());
-            converterRegistry.put(Long.TYPE,           new BuiltIn.LongConverter());
-            converterRegistry.put(Float.class,         new BuiltIn.FloatConverter());
-            converterRegistry.put(Float.TYPE,          new BuiltIn.FloatConverter());
-            converterRegistry.put(Double.class,        new BuiltIn.DoubleConverter());
-            converterRegistry.put(Double.TYPE,         new BuiltIn.DoubleConverter());
-            converterRegistry.put(File.class,          new BuiltIn.FileConverter());
-            converterRegistry.put(URI.class,           new BuiltIn.URIConverter());
-            converterRegistry.put(URL.class,           new BuiltIn.URLConverter());
-            converterRegistry.put(Date.class,          new BuiltIn.ISO8601DateConverter());
-            converterRegistry.put(BigDecimal.class,    new BuiltIn.BigDecimalConverter());
-            converterRegistry.put(BigInteger.class,    new BuiltIn.BigIntegerConverter());
-            converterRegistry.put(Charset.class,       new BuiltIn.CharsetConverter());
-            converterRegistry.put(InetAddress.class,   new BuiltIn.InetAddressConverter());
-            converterRegistry.put(Pattern.class,       new BuiltIn.PatternConverter());
-            converterRegistry.put(UUID.class,          new BuiltIn.UUIDConverter());
-            converterRegistry.put(Currency.class,      new BuiltIn.CurrencyConverter());
-            converterRegistry.put(TimeZone.class,      new BuiltIn.TimeZoneConverter());
-            converterRegistry.put(ByteOrder.class,     new BuiltIn.ByteOrderConverter());
-            converterRegistry.put(Class.class,         new BuiltIn.ClassConverter());
-            converterRegistry.put(NetworkInterface.class, new BuiltIn.NetworkInterfaceConverter());
+        Interpreter() { converterRegistry = BuiltIn.registry(tracer); }
 
-            // #698 use direct calls to Class.forName() and Class.getDeclaredMethod() with constant Strings
-            // to allow GraalVM static analysis to resolve the target elements
-            if (!excl("java.sql.Time")) { try { reg(Class.forName("java.sql.Time"), new BuiltIn.ISO8601TimeConverter(Class.forName("java.sql.Time").getDeclaredConstructor(long.class))); } catch (Exception e) {BuiltIn.handle(e, "java.sql.Time", tracer);} }
-
-            if (!excl("java.sql.Connection")) { try { reg(Class.forName("java.sql.Connection"), Class.forName("java.sql.DriverManager").getDeclaredMethod("getConnection", String.class), String.class); } catch (Exception e) {BuiltIn.handle(e, "java.sql.Connection", tracer);} }
-            if (!excl("java.sql.Driver"))     { try { reg(Class.forName("java.sql.Driver"),     Class.forName("java.sql.DriverManager").getDeclaredMethod("getDriver",     String.class), String.class); } catch (Exception e) {BuiltIn.handle(e, "java.sql.DriverManager", tracer);} }
-            if (!excl("java.sql.Timestamp"))  { try { reg(Class.forName("java.sql.Timestamp"),  Class.forName("java.sql.Timestamp")    .getDeclaredMethod("valueOf",       String.class), String.class); } catch (Exception e) {BuiltIn.handle(e, "java.sql.Timestamp", tracer);} }
-
-            if (!excl("java.time.Duration")) {       try { reg(Class.forName("java.time.Duration"),       Class.forName("java.time.Duration")      .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {BuiltIn.handle(e, "java.time.Duration", tracer);} }
-            if (!excl("java.time.Instant")) {        try { reg(Class.forName("java.time.Instant"),        Class.forName("java.time.Instant")       .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {BuiltIn.handle(e, "java.time.Instant", tracer);} }
-            if (!excl("java.time.LocalDate")) {      try { reg(Class.forName("java.time.LocalDate"),      Class.forName("java.time.LocalDate")     .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {BuiltIn.handle(e, "java.time.LocalDate", tracer);} }
-            if (!excl("java.time.LocalDateTime")) {  try { reg(Class.forName("java.time.LocalDateTime"),  Class.forName("java.time.LocalDateTime") .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {BuiltIn.handle(e, "java.time.LocalDateTime", tracer);} }
-            if (!excl("java.time.LocalTime")) {      try { reg(Class.forName("java.time.LocalTime"),      Class.forName("java.time.LocalTime")     .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {BuiltIn.handle(e, "java.time.LocalTime", tracer);} }
-            if (!excl("java.time.MonthDay")) {       try { reg(Class.forName("java.time.MonthDay"),       Class.forName("java.time.MonthDay")      .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {BuiltIn.handle(e, "java.time.MonthDay", tracer);} }
-            if (!excl("java.time.OffsetDateTime")) { try { reg(Class.forName("java.time.OffsetDateTime"), Class.forName("java.time.OffsetDateTime").getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {BuiltIn.handle(e, "java.time.OffsetDateTime", tracer);} }
-            if (!excl("java.time.OffsetTime")) {     try { reg(Class.forName("java.time.OffsetTime"),     Class.forName("java.time.OffsetTime")    .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {BuiltIn.handle(e, "java.time.OffsetTime", tracer);} }
-            if (!excl("java.time.Period")) {         try { reg(Class.forName("java.time.Period"),         Class.forName("java.time.Period")        .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {BuiltIn.handle(e, "java.time.Period", tracer);} }
-            if (!excl("java.time.Year")) {           try { reg(Class.forName("java.time.Year"),           Class.forName("java.time.Year")          .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {BuiltIn.handle(e, "java.time.Year", tracer);} }
-            if (!excl("java.time.YearMonth")) {      try { reg(Class.forName("java.time.YearMonth"),      Class.forName("java.time.YearMonth")     .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {BuiltIn.handle(e, "java.time.YearMonth", tracer);} }
-            if (!excl("java.time.ZonedDateTime")) {  try { reg(Class.forName("java.time.ZonedDateTime"),  Class.forName("java.time.ZonedDateTime") .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {BuiltIn.handle(e, "java.time.ZonedDateTime", tracer);} }
-            if (!excl("java.time.ZoneId")) {         try { reg(Class.forName("java.time.ZoneId"),         Class.forName("java.time.ZoneId")        .getDeclaredMethod("of",    String.class),       String.class);       } catch (Exception e) {BuiltIn.handle(e, "java.time.ZoneId", tracer);} }
-            if (!excl("java.time.ZoneOffset")) {     try { reg(Class.forName("java.time.ZoneOffset"),     Class.forName("java.time.ZoneOffset")    .getDeclaredMethod("of",    String.class),       String.class);       } catch (Exception e) {BuiltIn.handle(e, "java.time.ZoneOffset", tracer);} }
-
-            if (!excl("java.nio.file.Path")) {     try { reg(Class.forName("java.nio.file.Path"),  Class.forName("java.nio.file.Paths").getDeclaredMethod("get", String.class, String[].class), String.class, String[].class); } catch (Exception e) {BuiltIn.handle(e, "java.nio.file.Path", tracer);} }
-        }
-        private boolean excl(String fqcn) { return BuiltIn.excluded(fqcn, tracer); }
-        private void reg(Class<?> cls, Method method, Class<?>... paramTypes) {
-            converterRegistry.put(cls, new BuiltIn.ReflectionConverter(method, paramTypes));
-        }
-        private void reg(Class<?> timeClass, BuiltIn.ISO8601TimeConverter converter) {
-            converterRegistry.put(timeClass, converter);
+        /** Registers the specified converter, copying the shared built-in registry the first time a converter is
+         * registered for this command, so that the built-in registry itself is never modified. */
+        private void registerConverter(Class<?> cls, ITypeConverter<?> converter) {
+            if (!converterRegistryCopied) {
+                converterRegistry = new HashMap<Class<?>, ITypeConverter<?>>(converterRegistry);
+                converterRegistryCopied = true;
+            }
+            converterRegistry.put(cls, converter);
+        }
+        private void registerConverters(Interpreter other) {
+            if (!other.converterRegistryCopied) { return; } // nothing beyond the built-in converters
+            for (Map.Entry<Class<?>, ITypeConverter<?>> entry : other.converterRegistry.entrySet()) {
+                registerConverter(entry.getKey(), entry.getValue());
+            }
         }
         private ParserSpec config() { return commandSpec.parser(); }
+        /** Starts recording trace messages in an empty history if the trace history is enabled; the buffer is kept between parses. */
+        private void startTraceHistory() {
+            int size = config().traceHistorySize();
+            if (size == 0) {
+                tracer.history = null;
+            } else if (tracer.history == null || tracer.history.capacity() != size) {
+                tracer.history = new TraceHistory(size);
+            } else {
+                tracer.history.clear();
+            }
+        }
         /**
          * Entry point into parsing command line arguments.
          * @param args the command line arguments
@@ -11405,6 +11945,7 @@ public class CommandLine {
          */
         List<CommandLine> parse(String... args) {
             Assert.notNull(args, "argument array");
+            startTraceHistory();
             if (tracer.isInfo()) {tracer.info("Picocli version: %s%n", versionString());}
             if (tracer.isInfo()) {tracer.info("Parsing %d command line args %s%n", args.length, Arrays.toString(args));}
             if (tracer.isDebug()){tracer.debug("Parser configuration: %s%n", config());}
@@ -11413,7 +11954,8 @@ public class CommandLine {
             List<String> expanded = new ArrayList<String>();
             for (String arg : args) { addOrExpand(arg, expanded, new LinkedHashSet<String>()); }
             Stack<String> arguments = new Stack<String>();
-            arguments.addAll(reverseList(expanded));
+            arguments.ensureCapacity(expanded.size());
+            for (int i = expanded.size() - 1; i >= 0; i--) { arguments.add(expanded.get(i)); } // avoid intermediate copies: @files may be large
             List<CommandLine> result = new ArrayList<CommandLine>();
             parse(result, arguments, args, new ArrayList<Object>());
             return result;
@@ -11444,7 +11986,7 @@ public class CommandLine {
             }
         }
         private void expandValidArgumentFile(String fileName, File file, List<String> arguments, Set<String> visited) {
-            List<String> result = new ArrayList<String>();
+            int start = arguments.size(); // expand directly into the arguments list to avoid copying the tokens of large files
             LineNumberReader reader = null;
             try {
                 visited.add(file.getAbsolutePath());
@@ -11453,7 +11995,7 @@ public class CommandLine {
                     String token;
                     while ((token = reader.readLine()) != null) {
                         if (token.length() > 0 && !token.trim().startsWith(String.valueOf(commandSpec.parser().atFileCommentChar()))) {
-                            addOrExpand(token, result, visited);
+                            addOrExpand(token, arguments, visited);
                         }
                     }
                 } else {
@@ -11467,7 +12009,7 @@ public class CommandLine {
                         tok.commentChar(commandSpec.parser().atFileCommentChar());
                     }
                     while (tok.nextToken() != StreamTokenizer.TT_EOF) {
-                        addOrExpand(tok.sval, result, visited);
+                        addOrExpand(tok.sval, arguments, visited);
                     }
                 }
             } catch (Exception ex) {
@@ -11475,8 +12017,7 @@ public class CommandLine {
             } finally {
                 close(reader);
             }
-            if (tracer.isInfo()) {tracer.info("Expanded file @%s to arguments %s%n", fileName, result);}
-            arguments.addAll(result);
+            if (tracer.isInfo()) {tracer.info("Expanded file @%s to arguments %s%n", fileName, arguments.subList(start, arguments.size()));}
         }
         private void clear() {
             getCommandSpec().userObject(); // #690 instantiate user object when cmd matched on the command line
@@ -11484,6 +12025,10 @@ public class CommandLine {
             endOfOptions = false;
             isHelpRequested = false;
             parseResultBuilder = ParseResult.builder(getCommandSpec());
+            pendingArrays.clear();
+            pendingArrayOrder.clear();
+            sortedSubcommandNames = null;
+            sortedOptionNames = null;
             for (OptionSpec option : getCommandSpec().options())                           { clear(option); }
             for (PositionalParamSpec positional : getCommandSpec().positionalParameters()) { clear(positional); }
             for (ArgGroupSpec group : getCommandSpec().argGroups())                        { clear(group); }
@@ -11514,7 +12059,7 @@ public class CommandLine {
                 tracer.debug("Initializing %s: %d options, %d positional parameters, %d required, %d groups, %d subcommands.%n",
                         commandSpec.toString(), new HashSet<ArgSpec>(commandSpec.optionsMap().values()).size(),
                         commandSpec.positionalParameters().size(), commandSpec.requiredArgs().size(),
-                        commandSpec.argGroups().size(), commandSpec.subcommands().size());
+                        commandSpec.argGroups().size(), commandSpec.commands.size());
             }
             parsedCommands.add(CommandLine.this);
             List<ArgSpec> required = new ArrayList<ArgSpec>(commandSpec.requiredArgs());
@@ -11526,11 +12071,15 @@ public class CommandLine {
                 try {
                     applyDefaultValues(required);
                     processArguments(parsedCommands, argumentStack, required, initialized, originalArgs, nowProcessing);
+                    applyPendingArrays();
                 } catch (InitializationException ex) {
+                    applyPendingArraysAfterError();
                     maybeThrow(ex);
                 } catch (ParameterException ex) {
+                    applyPendingArraysAfterError();
                     maybeThrow(ex);
                 } catch (Exception ex) {
+                    applyPendingArraysAfterError();
                     int offendingArgIndex = originalArgs.length - argumentStack.size() - 1;
                     String arg = offendingArgIndex >= 0 && offendingArgIndex < originalArgs.length ? originalArgs[offendingArgIndex] : "?";
                     maybeThrow(ParameterException.create(CommandLine.this, ex, arg, offendingArgIndex, originalArgs));
@@ -11570,6 +12119,11 @@ public class CommandLine {
 
         private void applyDefaultValues(List<ArgSpec> required) throws Exception {
             parseResultBuilder.isInitializingDefaultValues = true;
+            batchDefaultValues = null;
+            if (commandSpec.defaultValueProvider() instanceof IBatchDefaultValueProvider) {
+                Map<ArgSpec, String> values = ((IBatchDefaultValueProvider) commandSpec.defaultValueProvider()).defaultValues(commandSpec, commandSpec.args());
+                batchDefaultValues = values == null ? Collections.<ArgSpec, String>emptyMap() : values;
+            }
             for (ArgSpec arg : commandSpec.args()) {
                 if (arg.group() == null) {
                     if (applyDefault(commandSpec.defaultValueProvider(), arg)) { required.remove(arg); }
@@ -11597,14 +12151,26 @@ public class CommandLine {
 
             // Default value provider return value is only used if provider exists and if value
             // is not null otherwise the original default or initial value are used
-            String fromProvider = defaultValueProvider == null ? null : defaultValueProvider.defaultValue(arg);
+            String fromProvider = defaultValueProvider == null ? null
+                    : batchDefaultValues != null && defaultValueProvider instanceof IBatchDefaultValueProvider ? batchDefaultValues.get(arg)
+                    : defaultValueProvider.defaultValue(arg);
             String defaultValue = fromProvider == null ? arg.defaultValue() : fromProvider;
 
             if (defaultValue != null) {
-                String provider = defaultValueProvider == null ? "" : (" from " + defaultValueProvider.toString());
-                if (tracer.isDebug()) {tracer.debug("Applying defaultValue (%s)%s to %s on %s%n", defaultValue, provider, arg, arg.scopeString());}
+                if (tracer.isDebug()) {
+                    String provider = defaultValueProvider == null ? "" : (" from " + defaultValueProvider.toString());
+                    tracer.debug("Applying defaultValue (%s)%s to %s on %s%n", defaultValue, provider, arg, arg.scopeString());
+                }
                 Range arity = arg.arity().min(Math.max(1, arg.arity().min));
-                applyOption(arg, false, LookBehind.SEPARATE, false, arity, stack(defaultValue), new HashSet<ArgSpec>(), arg.toString);
+                // reuse the stack unless it still holds the value of an outer default being applied
+                Stack<String> values = defaultValueArgs.isEmpty() ? defaultValueArgs : new Stack<String>();
+                values.push(defaultValue);
+                try {
+                    applyOption(arg, false, LookBehind.SEPARATE, false, arity, values, defaultValueInitialized, arg.toString);
+                } finally {
+                    values.clear();
+                    defaultValueInitialized.remove(arg); // a default value is always applied to an uninitialized arg
+                }
             }
             return defaultValue != null;
         }
@@ -11639,30 +12205,41 @@ public class CommandLine {
                 boolean actuallyUnquoted = !originalArg.equals(arg);
                 if (tracer.isDebug()) {
                     int argIndex = originalArgs.length - (args.size() + 1);
-                    if (actuallyUnquoted) { tracer.debug("[%d] Processing argument '%s' (trimmed from '%s'). Remainder=%s%n", argIndex, arg, originalArg, reverse(copy(args))); }
+                    if (!tracer.isPrinting(TraceLevel.DEBUG)) { tracer.debug("[%d] Processing argument '%s'. %d args remaining%n", argIndex, arg, args.size()); } // trace history: don't copy the remainder for each arg
+                    else if (actuallyUnquoted) { tracer.debug("[%d] Processing argument '%s' (trimmed from '%s'). Remainder=%s%n", argIndex, arg, originalArg, reverse(copy(args))); }
                     else { tracer.debug("[%d] Processing argument '%s'. Remainder=%s%n", argIndex, arg, reverse(copy(args))); }
                 }
 
                 // Double-dash separates options from positional arguments.
                 // If found, then interpret the remaining args as positional parameters.
                 if (commandSpec.parser.endOfOptionsDelimiter().equals(arg)) {
-                    tracer.info("Found end-of-options delimiter '%s'. Treating remainder as positional parameters.%n", commandSpec.parser.endOfOptionsDelimiter());
+                    if (tracer.isInfo()) { tracer.info("Found end-of-options delimiter '%s'. Treating remainder as positional parameters.%n", commandSpec.parser.endOfOptionsDelimiter()); }
                     endOfOptions = true;
                     processRemainderAsPositionalParameters(required, initialized, args);
                     return; // we are done
                 }
 
+                if (!commandSpec.commands.containsKey(arg) && !isStandaloneOption(arg)) {
+                    String subcommandName = abbreviatedSubcommand(arg);
+                    if (subcommandName == null && commandSpec.parent() != null && commandSpec.parent().subcommandsRepeatable() && !commandSpec.parent().commands.containsKey(arg)) {
+                        subcommandName = getParent().interpreter.abbreviatedSubcommand(arg);
+                    }
+                    if (subcommandName != null) {
+                        if (tracer.isDebug()) {tracer.debug("'%s' is an abbreviation of subcommand '%s'%n", arg, subcommandName);}
+                        arg = subcommandName;
+                    }
+                }
                 // if we find another command, we are done with the current command
-                if (commandSpec.subcommands().containsKey(arg)) {
-                    CommandLine subcommand = commandSpec.subcommands().get(arg);
+                if (commandSpec.commands.containsKey(arg)) {
+                    CommandLine subcommand = commandSpec.lookupSubcommand(arg);
                     processSubcommand(subcommand, parseResultBuilder, parsedCommands, args, required, originalArgs, nowProcessing, separator, arg);
                     return; // remainder done by the command
                 }
-                if (commandSpec.parent() != null && commandSpec.parent().subcommandsRepeatable() && commandSpec.parent().subcommands().containsKey(arg)) {
-                    tracer.debug("'%s' is a repeatable subcommand of %s%n", arg, commandSpec.parent().qualifiedName());// #454 repeatable subcommands
-                    CommandLine subcommand = commandSpec.parent().subcommands().get(arg);
+                if (commandSpec.parent() != null && commandSpec.parent().subcommandsRepeatable() && commandSpec.parent().commands.containsKey(arg)) {
+                    if (tracer.isDebug()) { tracer.debug("'%s' is a repeatable subcommand of %s%n", arg, commandSpec.parent().qualifiedName()); } // #454 repeatable subcommands
+                    CommandLine subcommand = commandSpec.parent().lookupSubcommand(arg);
                     if (subcommand.interpreter.parseResultBuilder != null) {
-                        tracer.debug("Subcommand '%s' has been matched before. Making a copy...%n", subcommand.getCommandName());
+                        if (tracer.isDebug()) { tracer.debug("Subcommand '%s' has been matched before. Making a copy...%n", subcommand.getCommandName()); }
                         CommandUserObject cuo = subcommand.getCommandSpec().userObject;
                         Object command = cuo.type == null ? cuo.instance : cuo.type;
                         subcommand = new CommandLine(command, factory); // create a new sub-hierarchy
@@ -11677,6 +12254,9 @@ public class CommandLine {
                 // or an option may have one or more option parameters.
                 // A parameter may be attached to the option.
                 LookBehind lookBehind = LookBehind.SEPARATE;
+                if (config().abbreviatedOptionsAllowed() && !isStandaloneOption(arg)) {
+                    arg = expandAbbreviatedOption(arg, separator);
+                }
                 int separatorIndex = arg.indexOf(separator);
                 if (separatorIndex > 0) {
                     String key = arg.substring(0, separatorIndex);
@@ -11715,13 +12295,15 @@ public class CommandLine {
             }
         }
 
-        private void processSubcommand(CommandLine subcommand, ParseResult.Builder builder, List<CommandLine> parsedCommands, Stack<String> args, Collection<ArgSpec> required, String[] originalArgs, List<Object> nowProcessing, String separator, String arg) {
+        private void processSubcommand(CommandLine subcommand, ParseResult.Builder builder, List<CommandLine> parsedCommands, Stack<String> args, Collection<ArgSpec> required, String[] originalArgs, List<Object> nowProcessing, String separator, String arg) throws Exception {
             nowProcessing.add(subcommand.commandSpec);
             updateHelpRequested(subcommand.commandSpec);
             if (!isAnyHelpRequested() && !required.isEmpty()) { // ensure current command portion is valid
                 throw MissingParameterException.create(CommandLine.this, required, separator);
             }
             if (tracer.isDebug()) {tracer.debug("Found subcommand '%s' (%s)%n", arg, subcommand.commandSpec.toString());}
+            applyPendingArrays();
+            subcommand.tracer.history = tracer.history; // the trace history of a parse includes its subcommands
             subcommand.interpreter.parse(parsedCommands, args, originalArgs, nowProcessing);
             builder.subcommand(subcommand.interpreter.parseResultBuilder.build());
         }
@@ -11729,6 +12311,67 @@ public class CommandLine {
         private boolean isStandaloneOption(String arg) {
             return commandSpec.optionsMap().containsKey(arg) || commandSpec.negatedOptionsMap().containsKey(arg);
         }
+
+        /** Returns the name of the subcommand that the specified argument is a unique prefix of, or {@code null} if
+         * abbreviated subcommands are not allowed or no subcommand name or alias starts with the specified argument.
+         * @throws ParameterException if the argument is a prefix of more than one subcommand */
+        String abbreviatedSubcommand(String arg) {
+            if (!config().abbreviatedSubcommandsAllowed() || !hasNamePart(arg)) { return null; }
+            if (sortedSubcommandNames == null) { sortedSubcommandNames = sorted(commandSpec.commands.keySet()); }
+            List<String> matches = prefixMatches(sortedSubcommandNames, arg);
+            Set<Object> subcommands = new HashSet<Object>(); // aliases of the same subcommand are not ambiguous
+            for (String name : matches) { subcommands.add(commandSpec.subcommandKey(name)); }
+            return uniqueMatch(arg, matches, subcommands.size());
+        }
+        private String expandAbbreviatedOption(String arg, String separator) {
+            int separatorIndex = arg.indexOf(separator);
+            String key = separatorIndex > 0 ? arg.substring(0, separatorIndex) : arg;
+            if (separatorIndex > 0 && isStandaloneOption(key)) { return arg; }
+            if (!hasNamePart(key)) { return arg; }
+            if (sortedOptionNames == null) {
+                Set<String> names = new HashSet<String>(commandSpec.optionsMap().keySet());
+                names.addAll(commandSpec.negatedOptionsMap().keySet());
+                sortedOptionNames = sorted(names);
+            }
+            List<String> matches = prefixMatches(sortedOptionNames, key);
+            Set<OptionSpec> options = new HashSet<OptionSpec>(); // names of the same option are not ambiguous
+            Set<OptionSpec> negated = new HashSet<OptionSpec>();
+            for (String name : matches) {
+                if (commandSpec.optionsMap().containsKey(name)) { options.add(commandSpec.optionsMap().get(name)); }
+                else                                            { negated.add(commandSpec.negatedOptionsMap().get(name)); }
+            }
+            String match = uniqueMatch(key, matches, options.size() + negated.size());
+            if (match == null) { return arg; }
+            if (tracer.isDebug()) {tracer.debug("'%s' is an abbreviation of option '%s'%n", key, match);}
+            return separatorIndex > 0 ? match + arg.substring(separatorIndex) : match;
+        }
+        private String uniqueMatch(String arg, List<String> matches, int distinctMatches) {
+            if (distinctMatches > 1) {
+                StringBuilder names = new StringBuilder();
+                for (String name : matches) { names.append(names.length() == 0 ? "'" : ", '").append(name).append("'"); }
+                throw new ParameterException(CommandLine.this, "Error: '" + arg + "' is not unique: it matches " + names);
+            }
+            return matches.isEmpty() ? null : matches.get(0);
+        }
+        private boolean hasNamePart(String arg) {
+            for (int i = 0; i < arg.length(); i++) {
+                if (Character.isLetterOrDigit(arg.charAt(i))) { return true; }
+            }
+            return false;
+        }
+        private String[] sorted(Collection<String> names) {
+            String[] result = names.toArray(new String[0]);
+            Arrays.sort(result);
+            return result;
+        }
+        /** Returns the names in the specified sorted array that start with the specified prefix, in alphabetical order. */
+        private List<String> prefixMatches(String[] sortedNames, String prefix) {
+            int i = Arrays.binarySearch(sortedNames, prefix);
+            if (i < 0) { i = -i - 1; } // all names starting with the prefix follow its insertion point
+            List<String> result = new ArrayList<String>();
+            while (i < sortedNames.length && sortedNames[i].startsWith(prefix)) { result.add(sortedNames[i++]); }
+            return result;
+        }
         private void handleUnmatchedArgument(Stack<String> args) throws Exception {
             if (!args.isEmpty()) { handleUnmatchedArgument(args.pop()); }
             if (config().stopAtUnmatched()) {
@@ -11747,7 +12390,8 @@ public class CommandLine {
         }
         private void processPositionalParameter(Collection<ArgSpec> required, Set<ArgSpec> initialized, boolean alreadyUnquoted, Stack<String> args) throws Exception {
             int argIndex = parseResultBuilder.originalArgList.size() - args.size();
-            if (tracer.isDebug()) {tracer.debug("[%d] Processing next arg as a positional parameter. Command-local position=%d. Remainder=%s%n", argIndex, position, reverse(copy(args)));}
+            if (tracer.isPrinting(TraceLevel.DEBUG)) {tracer.debug("[%d] Processing next arg as a positional parameter. Command-local position=%d. Remainder=%s%n", argIndex, position, reverse(copy(args)));}
+            else if (tracer.isDebug()) {tracer.debug("[%d] Processing next arg as a positional parameter. Command-local position=%d. %d args remaining%n", argIndex, position, args.size());}
             if (config().stopAtPositional()) {
                 if (!endOfOptions && tracer.isDebug()) {tracer.debug("Parser was configured with stopAtPositional=true, treating remaining arguments as positional parameters.%n");}
                 endOfOptions = true;
@@ -11757,8 +12401,15 @@ public class CommandLine {
             int argsConsumed = 0;
             int interactiveConsumed = 0;
             int originalNowProcessingSize = parseResultBuilder.nowProcessing.size();
-            Map<PositionalParamSpec, Integer> newPositions = new IdentityHashMap<PositionalParamSpec, Integer>();
-            for (PositionalParamSpec positionalParam : commandSpec.positionalParameters()) {
+            Map<PositionalParamSpec, Integer> newPositions = null; // only needed for positionals in groups
+            PositionalParamSpec[] candidates = commandSpec.positionalParametersAt(position);
+
+            // Each positional parameter consumes from its own copy of the remaining args. Copying is linear in the number of remaining args,
+            // so if only one positional parameter can take the args, let it consume them directly. Keep the copy if a parameter consumer
+            // may modify the args, or if we need the unconsumed args to recover from errors.
+            boolean consumeInPlace = candidates.length == 1 && candidates[0].parameterConsumer() == null && !config().collectErrors();
+            int consumedInPlace = 0;
+            for (PositionalParamSpec positionalParam : candidates) {
                 Range indexRange = positionalParam.index();
                 int localPosition = getPosition(positionalParam);
                 if (positionalParam.group() != null) { // does the positionalParam's index range contain the current position in the currently matching group
@@ -11771,13 +12422,14 @@ public class CommandLine {
                         continue;
                     }
                 }
-                Stack<String> argsCopy = copy(args);
+                Stack<String> argsCopy = consumeInPlace ? args : copy(args);
                 Range arity = positionalParam.arity();
                 if (tracer.isDebug()) {tracer.debug("Position %s is in index range %s. Trying to assign args to %s, arity=%s%n", positionDesc(positionalParam), indexRange, positionalParam, arity);}
                 if (!assertNoMissingParameters(positionalParam, arity, argsCopy)) { break; } // #389 collectErrors parsing
                 int originalSize = argsCopy.size();
                 int actuallyConsumed = applyOption(positionalParam, false, LookBehind.SEPARATE, alreadyUnquoted, arity, argsCopy, initialized, "args[" + indexRange + "] at position " + localPosition);
                 int count = originalSize - argsCopy.size();
+                if (consumeInPlace) { consumedInPlace = count; }
                 if (count > 0 || actuallyConsumed > 0) {
                     required.remove(positionalParam);
                     interactiveConsumed = this.interactiveCount - originalInteractiveCount;
@@ -11785,6 +12437,7 @@ public class CommandLine {
                 if (positionalParam.group() == null) { // don't update the command-level position for group args
                     argsConsumed = Math.max(argsConsumed, count);
                 } else {
+                    if (newPositions == null) { newPositions = new IdentityHashMap<PositionalParamSpec, Integer>(); }
                     newPositions.put(positionalParam, localPosition + count);
                     consumedByGroup = Math.max(consumedByGroup, count);
                 }
@@ -11794,14 +12447,14 @@ public class CommandLine {
             }
             // remove processed args from the stack
             int maxConsumed = Math.max(consumedByGroup, argsConsumed);
-            for (int i = 0; i < maxConsumed; i++) { args.pop(); }
+            for (int i = consumedInPlace; i < maxConsumed; i++) { args.pop(); }
             position += argsConsumed + interactiveConsumed;
             if (tracer.isDebug()) {tracer.debug("Consumed %d arguments and %d interactive values, moving command-local position to index %d.%n", argsConsumed, interactiveConsumed, position);}
-            for (PositionalParamSpec positional : newPositions.keySet()) {
+            for (PositionalParamSpec positional : newPositions == null ? Collections.<PositionalParamSpec>emptySet() : newPositions.keySet()) {
                 GroupMatchContainer inProgress = parseResultBuilder.groupMatchContainer.findOrCreateMatchingGroup(positional, commandSpec.commandLine());
                 if (inProgress != null) {
                     inProgress.lastMatch().position = newPositions.get(positional);
-                    if (tracer.isDebug()) {tracer.debug("Updated group position to %s for group %s.%n", inProgress.lastMatch().position, inProgress);}
+                    if (tracer.isDebug()) {tracer.debug("Updated group position to %s for group %s.%n", inProgress.lastMatch().position, inProgress.traceDescription(tracer, TraceLevel.DEBUG));}
                 }
             }
             if (consumedByGroup == 0 && argsConsumed == 0 && interactiveConsumed == 0 && !args.isEmpty()) {
@@ -12033,7 +12686,13 @@ public class CommandLine {
                     actualValue = new String(interactiveValue);
                 }
                 ITypeConverter<?> converter = getTypeConverter(cls, argSpec, 0);
-                newValue = tryConvert(argSpec, -1, converter, actualValue, cls);
+                if (isLazyConversionSupported(argSpec, cls)) {
+                    newValue = new LazyConversion(argSpec, converter, actualValue, cls);
+                } else if (parseResultBuilder.isInitializingDefaultValues && interactiveValue == null) {
+                    newValue = convertDefault(argSpec, converter, actualValue, cls);
+                } else {
+                    newValue = tryConvert(argSpec, -1, converter, actualValue, cls);
+                }
                 initValueMessage = "Setting %s to '%3$s' (was '%2$s') for %4$s on %5$s%n";
                 overwriteValueMessage = "Overwriting %s value '%s' with '%s' for %s on %s%n";
             } else {
@@ -12043,7 +12702,8 @@ public class CommandLine {
                     actualValue = "***"; // mask interactive value
                 }
             }
-            Object oldValue = argSpec.getValue();
+            // only needed for tracing; a lazy value is traced as its text, and the trace history does not read the value
+            Object oldValue = tracer.isPrinting(TraceLevel.INFO) ? unresolvedValue(argSpec) : "?";
             String traceMessage = initValueMessage;
             if (argSpec.group() == null && initialized.contains(argSpec)) {
                 if (!isOverwrittenOptionsAllowed()) {
@@ -12053,9 +12713,9 @@ public class CommandLine {
             }
             initialized.add(argSpec);
 
-            if (tracer.isInfo()) { tracer.info(traceMessage, argSpec.toString(), String.valueOf(oldValue), String.valueOf(newValue), argDescription, argSpec.scopeString()); }
+            if (tracer.isInfo()) { tracer.info(traceMessage, argSpec, oldValue, newValue, argDescription, argSpec.scopeString()); }
             int pos = getPosition(argSpec);
-            argSpec.setValue(newValue);
+            setUnresolvedValue(argSpec, newValue); // don't convert a lazy value that is replaced
             parseResultBuilder.addOriginalStringValue(argSpec, actualValue);// #279 track empty string value if no command line argument was consumed
             parseResultBuilder.addStringValue(argSpec, actualValue);
             parseResultBuilder.addTypedValues(argSpec, pos, newValue);
@@ -12075,7 +12735,7 @@ public class CommandLine {
             ITypeConverter<?> valueConverter = getTypeConverter(classes[1], argSpec, 1);
             @SuppressWarnings("unchecked") Map<Object, Object> map = (Map<Object, Object>) argSpec.getValue();
             if (map == null || (!map.isEmpty() && !initialized.contains(argSpec))) {
-                tracer.debug("Initializing binding for %s on %s with empty %s%n", optionDescription("", argSpec, 0), argSpec.scopeString(), argSpec.type().getSimpleName());
+                if (tracer.isDebug()) { tracer.debug("Initializing binding for %s on %s with empty %s%n", optionDescription("", argSpec, 0), argSpec.scopeString(), argSpec.type().getSimpleName()); }
                 map = createMap(argSpec.type()); // map class
                 argSpec.setValue(map);
             }
@@ -12109,7 +12769,7 @@ public class CommandLine {
                 Map<Object, Object> typedValuesAtPosition = new LinkedHashMap<Object, Object>();
                 parseResultBuilder.addTypedValues(argSpec, currentPosition++, typedValuesAtPosition);
                 assertNoMissingMandatoryParameter(argSpec, args, i, arity);
-                consumeOneMapArgument(argSpec, lookBehind, alreadyUnquoted, arity, consumed, args.pop(), classes, keyConverter, valueConverter, typedValuesAtPosition, i, argDescription);
+                consumeOneMapArgument(argSpec, lookBehind, alreadyUnquoted, arity, consumed, args.pop(), classes, keyConverter, valueConverter, Collections.emptyList(), typedValuesAtPosition, i, argDescription);
                 result.putAll(typedValuesAtPosition);
                 consumed = consumedCountMap(i + 1, initialSize, argSpec);
                 lookBehind = LookBehind.SEPARATE;
@@ -12127,10 +12787,11 @@ public class CommandLine {
 
                 Map<Object, Object> typedValuesAtPosition = new LinkedHashMap<Object, Object>();
                 parseResultBuilder.addTypedValues(argSpec, currentPosition++, typedValuesAtPosition);
-                if (!canConsumeOneMapArgument(argSpec, lookBehind, alreadyUnquoted, arity, consumed, args.peek(), classes, keyConverter, valueConverter, argDescription)) {
+                List<Object> converted = new ArrayList<Object>();
+                if (!canConsumeOneMapArgument(argSpec, lookBehind, alreadyUnquoted, arity, consumed, args.peek(), classes, keyConverter, valueConverter, converted, argDescription)) {
                     break; // leave empty map at argSpec.typedValueAtPosition[currentPosition] so we won't try to consume that position again
                 }
-                consumeOneMapArgument(argSpec, lookBehind, alreadyUnquoted, arity, consumed, args.pop(), classes, keyConverter, valueConverter, typedValuesAtPosition, i, argDescription);
+                consumeOneMapArgument(argSpec, lookBehind, alreadyUnquoted, arity, consumed, args.pop(), classes, keyConverter, valueConverter, converted, typedValuesAtPosition, i, argDescription);
                 result.putAll(typedValuesAtPosition);
                 consumed = consumedCountMap(i + 1, initialSize, argSpec);
                 lookBehind = LookBehind.SEPARATE;
@@ -12144,15 +12805,18 @@ public class CommandLine {
                                            String arg,
                                            Class<?>[] classes,
                                            ITypeConverter<?> keyConverter, ITypeConverter<?> valueConverter,
+                                           List<?> converted,
                                            Map<Object, Object> result,
                                            int index,
                                            String argDescription) throws Exception {
             if (!lookBehind.isAttached()) { parseResultBuilder.nowProcessing(argSpec, arg); }
             String[] values = unquoteAndSplit(argSpec, lookBehind, alreadyUnquoted, arity, consumed, arg);
-            for (String value : values) {
-                String[] keyValue = splitKeyValue(argSpec, value);
-                Object mapKey =   tryConvert(argSpec, index, keyConverter,   keyValue[0], classes[0]);
-                Object mapValue = tryConvert(argSpec, index, valueConverter, keyValue[1], classes[1]);
+            for (int j = 0; j < values.length; j++) {
+                String[] keyValue = splitKeyValue(argSpec, values[j]);
+                // reuse the keys and values converted by canConsumeOneMapArgument
+                boolean reuse = 2 * j + 1 < converted.size();
+                Object mapKey =   reuse ? converted.get(2 * j)     : tryConvert(argSpec, index, keyConverter,   keyValue[0], classes[0]);
+                Object mapValue = reuse ? converted.get(2 * j + 1) : tryConvert(argSpec, index, valueConverter, keyValue[1], classes[1]);
                 result.put(mapKey, mapValue);
                 if (tracer.isInfo()) { tracer.info("Putting [%s : %s] in %s<%s, %s> %s for %s on %s%n", String.valueOf(mapKey), String.valueOf(mapValue),
                         result.getClass().getSimpleName(), classes[0].getSimpleName(), classes[1].getSimpleName(), argSpec.toString(), argDescription, argSpec.scopeString()); }
@@ -12172,13 +12836,14 @@ public class CommandLine {
         private boolean canConsumeOneMapArgument(ArgSpec argSpec, LookBehind lookBehind, boolean alreadyUnquoted, Range arity, int consumed,
                                                  String arg, Class<?>[] classes,
                                                  ITypeConverter<?> keyConverter, ITypeConverter<?> valueConverter,
+                                                 List<Object> converted,
                                                  String argDescription) {
             String[] values = unquoteAndSplit(argSpec, lookBehind, alreadyUnquoted, arity, consumed, arg);
             try {
                 for (String value : values) {
                     String[] keyValue = splitKeyValue(argSpec, value);
-                    tryConvert(argSpec, -1, keyConverter, keyValue[0], classes[0]);
-                    tryConvert(argSpec, -1, valueConverter, keyValue[1], classes[1]);
+                    converted.add(tryConvert(argSpec, -1, keyConverter, keyValue[0], classes[0]));
+                    converted.add(tryConvert(argSpec, -1, valueConverter, keyValue[1], classes[1]));
                 }
                 return true;
             } catch (PicocliException ex) {
@@ -12188,7 +12853,7 @@ public class CommandLine {
         }
 
         private String[] splitKeyValue(ArgSpec argSpec, String value) {
-            String[] keyValue = ArgSpec.splitRespectingQuotedStrings(value, 2, config(), argSpec, "=");
+            String[] keyValue = ArgSpec.splitRespectingQuotedStrings(value, 2, config(), argSpec, keyValueSeparator);
 
             if (keyValue.length < 2) {
                 String splitRegex = argSpec.splitRegex();
@@ -12217,16 +12882,20 @@ public class CommandLine {
                                             Stack<String> args,
                                             Set<ArgSpec> initialized,
                                             String argDescription) throws Exception {
-            Object existing = argSpec.getValue();
-            int length = existing == null ? 0 : Array.getLength(existing);
             Class<?> type = argSpec.auxiliaryTypes()[0];
             int pos = getPosition(argSpec);
             List<Object> converted = consumeArguments(argSpec, negated, lookBehind, alreadyUnquoted, alreadyUnquoted, arity, args, type, argDescription);
-            List<Object> newValues = new ArrayList<Object>();
-            if (initialized.contains(argSpec)) { // existing values are default values if initialized does NOT contain argsSpec
-                for (int i = 0; i < length; i++) {
-                    newValues.add(Array.get(existing, i)); // keep non-default values
+            List<Object> newValues = pendingArrays.get(argSpec);
+            if (newValues == null || !initialized.contains(argSpec)) {
+                newValues = new ArrayList<Object>();
+                if (initialized.contains(argSpec)) { // existing values are default values if initialized does NOT contain argsSpec
+                    Object existing = argSpec.getValue();
+                    int length = existing == null ? 0 : Array.getLength(existing);
+                    for (int i = 0; i < length; i++) {
+                        newValues.add(Array.get(existing, i)); // keep non-default values
+                    }
                 }
+                addPendingArray(argSpec, newValues);
             }
             initialized.add(argSpec);
             for (Object obj : converted) {
@@ -12236,15 +12905,92 @@ public class CommandLine {
                     newValues.add(obj);
                 }
             }
-            Object array = Array.newInstance(type, newValues.size());
-            for (int i = 0; i < newValues.size(); i++) {
-                Array.set(array, i, newValues.get(i));
-            }
-            argSpec.setValue(array);
             parseResultBuilder.add(argSpec, pos);
             return converted.size(); // return how many args were consumed
         }
 
+        /** Adds the specified group user object to the array-typed group field or method; the array is created in {@link #applyPendingArrays()}. */
+        void addPendingGroupValue(ArgGroupSpec group, Object userObject) throws Exception {
+            List<Object> values = pendingArrays.get(group);
+            if (values == null) {
+                values = new ArrayList<Object>();
+                Object existing = group.getter().get();
+                int length = existing == null ? 0 : Array.getLength(existing);
+                for (int i = 0; i < length; i++) {
+                    values.add(Array.get(existing, i));
+                }
+                addPendingArray(group, values);
+            }
+            values.add(userObject);
+        }
+        private void addPendingArray(Object argOrGroup, List<Object> values) {
+            if (pendingArrays.put(argOrGroup, values) == null) { pendingArrayOrder.add(argOrGroup); }
+        }
+
+        /** Creates arrays for all values accumulated for array-typed options, positional parameters and groups,
+         * and sets these arrays on their bindings. Building the array once avoids copying it every time the option is matched. */
+        void applyPendingArrays() throws Exception {
+            for (Object argOrGroup : new ArrayList<Object>(pendingArrayOrder)) { applyPendingArray(argOrGroup); }
+        }
+        /** Sets the array values matched before a parse error. A failure to set them is traced instead of thrown,
+         * so that it does not replace the parse error. */
+        private void applyPendingArraysAfterError() {
+            try {
+                applyPendingArrays();
+            } catch (Exception ex) {
+                tracer.warn("Could not set array values matched before the parse error: %s%n", ex);
+            }
+        }
+        /** Applies the pending arrays for the options and positional parameters of the specified group and its subgroups,
+         * and for the subgroups themselves: called before the group's user object is replaced. */
+        void applyPendingArrays(ArgGroupSpec group) throws Exception {
+            for (ArgSpec arg : group.args()) { applyPendingArray(arg); }
+            for (ArgGroupSpec sub : group.subgroups()) {
+                applyPendingArray(sub);
+                applyPendingArrays(sub);
+            }
+        }
+        private void applyPendingArray(Object argOrGroup) throws Exception {
+            List<Object> values = pendingArrays.remove(argOrGroup);
+            if (values == null) { return; }
+            pendingArrayOrder.remove(argOrGroup);
+            if (argOrGroup instanceof ArgSpec) {
+                ArgSpec argSpec = (ArgSpec) argOrGroup;
+                argSpec.setValue(toArray(argSpec.auxiliaryTypes()[0], values));
+            } else {
+                ArgGroupSpec group = (ArgGroupSpec) argOrGroup;
+                group.setter().set(toArray(group.typeInfo().getAuxiliaryTypes()[0], values));
+            }
+        }
+        private Object toArray(Class<?> type, List<Object> values) {
+            // avoid reflective Array.set for the most common primitive number types
+            if (type == int.class && allInstancesOf(Integer.class, values)) {
+                int[] result = new int[values.size()];
+                for (int i = 0; i < result.length; i++) { result[i] = (Integer) values.get(i); }
+                return result;
+            }
+            if (type == long.class && allInstancesOf(Long.class, values)) {
+                long[] result = new long[values.size()];
+                for (int i = 0; i < result.length; i++) { result[i] = (Long) values.get(i); }
+                return result;
+            }
+            if (type == double.class && allInstancesOf(Double.class, values)) {
+                double[] result = new double[values.size()];
+                for (int i = 0; i < result.length; i++) { result[i] = (Double) values.get(i); }
+                return result;
+            }
+            Object array = Array.newInstance(type, values.size());
+            for (int i = 0; i < values.size(); i++) {
+                Array.set(array, i, values.get(i));
+            }
+            return array;
+        }
+
+        private boolean allInstancesOf(Class<?> cls, List<Object> values) {
+            for (Object value : values) { if (!cls.isInstance(value)) { return false; } }
+            return true;
+        }
+
         @SuppressWarnings("unchecked")
         private int applyValuesToCollectionField(ArgSpec argSpec,
                                                  boolean negated,
@@ -12259,7 +13005,7 @@ public class CommandLine {
             int pos = getPosition(argSpec);
             List<Object> converted = consumeArguments(argSpec, negated, lookBehind, alreadyUnquoted, alreadyUnquoted, arity, args, type, argDescription);
             if (collection == null || (!collection.isEmpty() && !initialized.contains(argSpec))) {
-                tracer.debug("Initializing binding for %s on %s with empty %s%n", optionDescription("", argSpec, 0), argSpec.scopeString(), argSpec.type().getSimpleName());
+                if (tracer.isDebug()) { tracer.debug("Initializing binding for %s on %s with empty %s%n", optionDescription("", argSpec, 0), argSpec.scopeString(), argSpec.type().getSimpleName()); }
                 collection = createCollection(argSpec.type(), type); // collection type, element type
                 argSpec.setValue(collection);
             }
@@ -12296,7 +13042,7 @@ public class CommandLine {
                 List<Object> typedValuesAtPosition = new ArrayList<Object>();
                 parseResultBuilder.addTypedValues(argSpec, currentPosition++, typedValuesAtPosition);
                 assertNoMissingMandatoryParameter(argSpec, args, i, arity);
-                consumeOneArgument(argSpec, lookBehind, alreadyUnquoted, arity, consumed, args.pop(), type, typedValuesAtPosition, i, argDescription);
+                consumeOneArgument(argSpec, lookBehind, alreadyUnquoted, arity, consumed, args.pop(), type, Collections.emptyList(), typedValuesAtPosition, i, argDescription);
                 result.addAll(typedValuesAtPosition);
                 consumed = consumedCount(i + 1, initialSize, argSpec);
                 lookBehind = LookBehind.SEPARATE;
@@ -12320,10 +13066,11 @@ public class CommandLine {
                     if (!varargCanConsumeNextValue(argSpec, args.peek())) { break; }
                     List<Object> typedValuesAtPosition = new ArrayList<Object>();
                     parseResultBuilder.addTypedValues(argSpec, currentPosition++, typedValuesAtPosition);
-                    if (!canConsumeOneArgument(argSpec, lookBehind, alreadyUnquoted, arity, consumed, args.peek(), type, argDescription)) {
+                    List<Object> converted = new ArrayList<Object>();
+                    if (!canConsumeOneArgument(argSpec, lookBehind, alreadyUnquoted, arity, consumed, args.peek(), type, converted, argDescription)) {
                         break; // leave empty list at argSpec.typedValueAtPosition[currentPosition] so we won't try to consume that position again
                     }
-                    consumeOneArgument(argSpec, lookBehind, alreadyUnquoted, arity, consumed, args.pop(), type, typedValuesAtPosition, i, argDescription);
+                    consumeOneArgument(argSpec, lookBehind, alreadyUnquoted, arity, consumed, args.pop(), type, converted, typedValuesAtPosition, i, argDescription);
                     result.addAll(typedValuesAtPosition);
                     consumed = consumedCount(i + 1, initialSize, argSpec);
                     lookBehind = LookBehind.SEPARATE;
@@ -12379,6 +13126,7 @@ public class CommandLine {
                                        int consumed,
                                        String arg,
                                        Class<?> type,
+                                       List<?> converted,
                                        List<Object> result,
                                        int index,
                                        String argDescription) {
@@ -12386,7 +13134,8 @@ public class CommandLine {
             String[] values = unquoteAndSplit(argSpec, lookBehind, alreadyUnquoted, arity, consumed, arg);
             ITypeConverter<?> converter = getTypeConverter(type, argSpec, 0);
             for (int j = 0; j < values.length; j++) {
-                Object stronglyTypedValue = tryConvert(argSpec, index, converter, values[j], type);
+                // reuse the values converted by canConsumeOneArgument: converters may be expensive or have side effects
+                Object stronglyTypedValue = j < converted.size() ? converted.get(j) : tryConvert(argSpec, index, converter, values[j], type);
                 result.add(stronglyTypedValue);
                 if (tracer.isInfo()) {
                     tracer.info("Adding [%s] to %s for %s on %s%n", String.valueOf(result.get(result.size() - 1)), argSpec.toString(), argDescription, argSpec.scopeString());
@@ -12396,7 +13145,9 @@ public class CommandLine {
             parseResultBuilder.addOriginalStringValue(argSpec, arg);
             return ++index;
         }
-        private boolean canConsumeOneArgument(ArgSpec argSpec, LookBehind lookBehind, boolean alreadyUnquoted, Range arity, int consumed, String arg, Class<?> type, String argDescription) {
+        /** Returns whether the specified argument can be converted to the type of the specified option or positional parameter,
+         * and adds the converted values to the specified list so that they can be assigned without converting them again. */
+        private boolean canConsumeOneArgument(ArgSpec argSpec, LookBehind lookBehind, boolean alreadyUnquoted, Range arity, int consumed, String arg, Class<?> type, List<Object> converted, String argDescription) {
             if (char[].class.equals(argSpec.auxiliaryTypes()[0]) || char[].class.equals(argSpec.type())) { return true; }
             ITypeConverter<?> converter = getTypeConverter(type, argSpec, 0);
             try {
@@ -12406,7 +13157,7 @@ public class CommandLine {
 //                    return false;
 //                }
                 for (String value : values) {
-                    tryConvert(argSpec, -1, converter, value, type);
+                    converted.add(tryConvert(argSpec, -1, converter, value, type));
                 }
                 return true;
             } catch (PicocliException ex) {
@@ -12421,7 +13172,7 @@ public class CommandLine {
          * However, if end-of-options has been reached, positional parameters may consume all remaining arguments. </p>*/
         private boolean varargCanConsumeNextValue(ArgSpec argSpec, String nextValue) {
             if (endOfOptions && argSpec.isPositional()) { return true; }
-            boolean isCommand = commandSpec.subcommands().containsKey(nextValue);
+            boolean isCommand = commandSpec.commands.containsKey(nextValue);
             return !isCommand && !isOption(nextValue);
         }
 
@@ -12434,18 +13185,21 @@ public class CommandLine {
         private boolean isOption(String arg) {
             if (arg == null)      { return false; }
             if (commandSpec.parser().endOfOptionsDelimiter().equals(arg)) { return true; }
+            if (config().abbreviatedOptionsAllowed() && !isStandaloneOption(arg)) {
+                arg = expandAbbreviatedOption(arg, config().separator()); // processArguments would also match --verb as --verbose
+            }
 
             // not just arg prefix: we may be in the middle of parsing -xrvfFILE
             if (commandSpec.optionsMap().containsKey(arg)) { // -v or -f or --file (not attached to param or other option)
                 return true;
             }
             // [#828] Subcommands should not be parsed as option values for options with optional parameters.
-            if (commandSpec.subcommands().containsKey(arg)) {
+            if (commandSpec.commands.containsKey(arg) || abbreviatedSubcommand(arg) != null) {
                 return true;
             }
             // #454 repeatable subcommands
             if (commandSpec.parent() != null && commandSpec.parent().subcommandsRepeatable()) {
-                if (commandSpec.parent().subcommands().containsKey(arg)) {
+                if (commandSpec.parent().commands.containsKey(arg)) {
                     return true;
                 }
             }
@@ -12457,9 +13211,71 @@ public class CommandLine {
             }
             return (arg.length() > 2 && arg.startsWith("-") && commandSpec.posixOptionsMap().containsKey(arg.charAt(1)));
         }
+        /** Returns whether the value of the specified single-value arg can be converted when it is first read:
+         * this requires a binding that resolves deferred values; values of fields and methods are read by application code directly. */
+        private boolean isLazyConversionSupported(ArgSpec argSpec, Class<?> cls) {
+            if (!config().lazyTypeConversion() || argSpec.interactive() || isBoolean(cls)) { return false; }
+            return argSpec.setter() instanceof DeferredValueBinding;
+        }
+        /** Returns the value of the specified arg without converting a lazy value. */
+        private Object unresolvedValue(ArgSpec argSpec) {
+            IGetter getter = argSpec.getter();
+            return getter instanceof DeferredValueBinding ? ((DeferredValueBinding) getter).unresolvedValue() : argSpec.getValue();
+        }
+        /** Sets the value of the specified arg without converting the lazy value it replaces. */
+        private void setUnresolvedValue(ArgSpec argSpec, Object value) {
+            ISetter setter = argSpec.setter();
+            if (setter instanceof DeferredValueBinding) { ((DeferredValueBinding) setter).setUnresolvedValue(value); }
+            else                                        { argSpec.setValue(value); }
+        }
+        /** Converts the default value of a single-value option or positional parameter. The converted value is reused
+         * by subsequent parses while the default value text and the converter are unchanged, if the converter is a built-in
+         * converter and the value is immutable, so that it can safely be shared by the user objects of all parses. */
+        private Object convertDefault(ArgSpec argSpec, ITypeConverter<?> converter, String value, Class<?> type) {
+            ConvertedDefault cached = convertedDefaults.get(argSpec);
+            if (cached != null && cached.converter == converter && cached.text.equals(value)) {
+                return cached.value;
+            }
+            Object result = tryConvert(argSpec, -1, converter, value, type);
+            if (value != null && (converter instanceof EnumConverter || BuiltIn.isBuiltInConverter(converter)) && BuiltIn.isImmutable(result)) {
+                convertedDefaults.put(argSpec, new ConvertedDefault(converter, value, result));
+            } else {
+                convertedDefaults.remove(argSpec);
+            }
+            return result;
+        }
+        /** A command line value that is converted when it is first read. */
+        private class LazyConversion extends DeferredValue {
+            private final ArgSpec argSpec;
+            private final ITypeConverter<?> converter;
+            private final String value;
+            private final Class<?> type;
+            private boolean converted;
+            private Object result;
+            LazyConversion(ArgSpec argSpec, ITypeConverter<?> converter, String value, Class<?> type) {
+                this.argSpec = argSpec;
+                this.converter = converter;
+                this.value = value;
+                this.type = type;
+            }
+            Object resolve() {
+                if (!converted) { // the binding and the parse result share the converted value
+                    result = tryConvert(argSpec, -1, converter, value, type);
+                    converted = true;
+                }
+                return result;
+            }
+            public String toString() { return value; }
+        }
+
         private Object tryConvert(ArgSpec argSpec, int index, ITypeConverter<?> converter, String value, Class<?> type)
                 throws ParameterException {
             try {
+                int cacheSize = config().converterCacheSize();
+                if (cacheSize > 0 && BuiltIn.ConvertedValueCache.isCacheable(converter)) {
+                    if (convertedValueCache == null) { convertedValueCache = new BuiltIn.ConvertedValueCache(); }
+                    return convertedValueCache.convert(converter, value, cacheSize);
+                }
                 return converter.convert(value);
             } catch (TypeConversionException ex) {
                 String msg = String.format("Invalid value for %s: %s", optionDescription("", argSpec, index), ex.getMessage());
@@ -12525,36 +13341,69 @@ public class CommandLine {
             if (char[].class.equals(argSpec.type()) && argSpec.interactive()) { return converterRegistry.get(char[].class); }
             if (converterRegistry.containsKey(type)) { return converterRegistry.get(type); }
             if (type.isEnum()) {
-                return new ITypeConverter<Object>() {
-                    @SuppressWarnings("unchecked")
-                    public Object convert(String value) throws Exception {
-                        try { return Enum.valueOf((Class<Enum>) type, value); }
-                        catch (IllegalArgumentException ex) {
-                            boolean insensitive = commandSpec.parser().caseInsensitiveEnumValuesAllowed();
-                            for (Enum enumConstant : ((Class<Enum>) type).getEnumConstants()) {
-                                String str = enumConstant.toString();
-                                String name = enumConstant.name();
-                                if (value.equals(str) || value.equals(name) || insensitive && (value.equalsIgnoreCase(str) || value.equalsIgnoreCase(name))) {
-                                    return enumConstant;
-                                }                            }
-                            String sensitivity = insensitive ? "case-insensitive" : "case-sensitive";
-                            Enum<?>[] constants = ((Class<Enum<?>>) type).getEnumConstants();
-                            List<String> names = new ArrayList<String>();
-                            for (Enum<?> constant : constants) {
-                                names.add(constant.name());
-                                if (!names.contains(constant.toString())) { // name() != toString()
-                                    if (!(insensitive && constant.name().equalsIgnoreCase(constant.toString()))) {
-                                        names.add(constant.toString());
-                                    }
-                                }
-                            }
-                            throw new TypeConversionException(
-                                    format("expected one of %s (%s) but was '%s'", names, sensitivity, value));
+                EnumConverter result = enumConverters.get(type);
+                if (result == null) {
+                    result = new EnumConverter(type);
+                    enumConverters.put(type, result);
+                }
+                return result;
+            }
+            throw new MissingTypeConverterException(CommandLine.this, "No TypeConverter registered for " + type.getName() + " of " + argSpec);
+        }
+
+        /** Converts Strings to enum constants by their {@code name()} or {@code toString()} value, optionally case-insensitive.
+         * The lookup tables and the list of valid values for the error message are built once per enum type. */
+        private class EnumConverter implements ITypeConverter<Object> {
+            private final Map<String, Enum<?>> byName = new HashMap<String, Enum<?>>();
+            private final Map<String, Enum<?>> byToString = new HashMap<String, Enum<?>>();
+            private final Map<String, Enum<?>> byFoldedNameOrToString = new HashMap<String, Enum<?>>();
+            private final String caseSensitiveNames;
+            private final String caseInsensitiveNames;
+
+            @SuppressWarnings("unchecked")
+            EnumConverter(Class<?> type) {
+                Enum<?>[] constants = ((Class<Enum<?>>) type).getEnumConstants();
+                for (Enum<?> constant : constants) { byName.put(constant.name(), constant); }
+                for (Enum<?> constant : constants) { // if multiple constants match, the first one wins
+                    putIfAbsent(byToString, constant.toString(), constant);
+                    putIfAbsent(byFoldedNameOrToString, foldCase(constant.toString()), constant);
+                    putIfAbsent(byFoldedNameOrToString, foldCase(constant.name()), constant);
+                }
+                caseSensitiveNames = names(constants, false).toString();
+                caseInsensitiveNames = names(constants, true).toString();
+            }
+            private void putIfAbsent(Map<String, Enum<?>> map, String key, Enum<?> constant) {
+                if (!map.containsKey(key)) { map.put(key, constant); }
+            }
+            private List<String> names(Enum<?>[] constants, boolean insensitive) {
+                List<String> names = new ArrayList<String>();
+                for (Enum<?> constant : constants) {
+                    names.add(constant.name());
+                    if (!names.contains(constant.toString())) { // name() != toString()
+                        if (!(insensitive && constant.name().equalsIgnoreCase(constant.toString()))) {
+                            names.add(constant.toString());
                         }
                     }
-                };
+                }
+                return names;
             }
-            throw new MissingTypeConverterException(CommandLine.this, "No TypeConverter registered for " + type.getName() + " of " + argSpec);
+            public Object convert(String value) throws Exception {
+                Enum<?> result = byName.get(value);
+                if (result != null) { return result; }
+                boolean insensitive = commandSpec.parser().caseInsensitiveEnumValuesAllowed();
+                result = insensitive ? byFoldedNameOrToString.get(foldCase(value)) : byToString.get(value);
+                if (result != null) { return result; }
+                String sensitivity = insensitive ? "case-insensitive" : "case-sensitive";
+                throw new TypeConversionException(format("expected one of %s (%s) but was '%s'",
+                        insensitive ? caseInsensitiveNames : caseSensitiveNames, sensitivity, value));
+            }
+        }
+        /** Returns a String that is equal to the case-folded version of another String if and only if
+         * the two Strings are {@linkplain String#equalsIgnoreCase(String) equal ignoring case}. */
+        private String foldCase(String value) {
+            char[] chars = value.toCharArray();
+            for (int i = 0; i < chars.length; i++) { chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i])); }
+            return new String(chars);
         }
 
         private boolean booleanValue(ArgSpec argSpec, String value) {
@@ -12858,6 +13707,68 @@ public class CommandLine {
                 }
             }
         }
+        /** Returns whether the specified converter is one of the built-in converters. */
+        static boolean isBuiltInConverter(ITypeConverter<?> converter) {
+            return converter.getClass().getEnclosingClass() == BuiltIn.class;
+        }
+        /** Returns whether the specified converted value is an instance of a well-known immutable type. */
+        static boolean isImmutable(Object value) {
+            if (value == null || value instanceof Enum<?> || value instanceof Charset) { return true; }
+            Class<?> cls = value.getClass();
+            if (cls == String.class || cls == Boolean.class || cls == Character.class || cls == Byte.class || cls == Short.class
+                    || cls == Integer.class || cls == Long.class || cls == Float.class || cls == Double.class
+                    || cls == BigInteger.class || cls == BigDecimal.class || cls == File.class || cls == URI.class || cls == URL.class
+                    || cls == UUID.class || cls == Pattern.class || cls == Currency.class || cls == Class.class) {
+                return true;
+            }
+            if (cls.getName().startsWith("java.time.")) { return true; }
+            for (Class<?> iface : cls.getInterfaces()) {
+                if ("java.nio.file.Path".equals(iface.getName())) { return true; }
+            }
+            return false;
+        }
+        /** Caches the values converted by the built-in converters that perform a lookup, see {@link CommandLine#setConverterCacheSize(int)}.
+         * The least recently used values are evicted when the cache is full; values resolved from a name expire. */
+        static class ConvertedValueCache {
+            static final long NAME_RESOLUTION_TTL_NANOS = 30L * 1000 * 1000 * 1000; // default positive TTL of the JVM's host name cache
+            private final Map<Key, Value> cache = new LinkedHashMap<Key, Value>(16, 0.75f, true); // access order: eldest is least recently used
+
+            static boolean isCacheable(ITypeConverter<?> converter) {
+                return converter instanceof ClassConverter || converter instanceof CharsetConverter || isNameResolution(converter);
+            }
+            private static boolean isNameResolution(ITypeConverter<?> converter) {
+                return converter instanceof InetAddressConverter || converter instanceof NetworkInterfaceConverter;
+            }
+            Object convert(ITypeConverter<?> converter, String text, int maxSize) throws Exception {
+                Key key = new Key(converter, text);
+                long now = System.nanoTime();
+                Value cached = cache.get(key);
+                if (cached != null && (cached.expires == null || now - cached.expires < 0)) { return cached.value; }
+                Object result = converter.convert(text); // failed conversions are not cached
+                cache.put(key, new Value(result, isNameResolution(converter) ? Long.valueOf(now + NAME_RESOLUTION_TTL_NANOS) : null));
+                for (Iterator<Key> keys = cache.keySet().iterator(); cache.size() > maxSize; ) {
+                    keys.next();
+                    keys.remove();
+                }
+                return result;
+            }
+            private static class Key {
+                final ITypeConverter<?> converter;
+                final String text;
+                Key(ITypeConverter<?> converter, String text) { this.converter = converter; this.text = text; }
+                public boolean equals(Object obj) {
+                    if (!(obj instanceof Key)) { return false; }
+                    Key other = (Key) obj;
+                    return converter == other.converter && text.equals(other.text);
+                }
+                public int hashCode() { return 31 * System.identityHashCode(converter) + text.hashCode(); }
+            }
+            private static class Value {
+                final Object value;
+                final Long expires; // System.nanoTime() value, or null if the value does not expire
+                Value(Object value, Long expires) { this.value = value; this.expires = expires; }
+            }
+        }
         static void handle(Exception e, String fqcn, Tracer tracer) {
             if (!traced.contains(fqcn)) {
                 tracer.debug("Could not register converter for %s: %s%n", fqcn, e.toString());
@@ -12874,10 +13785,95 @@ public class CommandLine {
             }
             return false;
         }
+        private static String registryExcludes;
+        private static Map<Class<?>, ITypeConverter<?>> registry;
+
+        /** Returns the built-in converters, shared by all commands. The registry is built once and only rebuilt
+         * when the {@code picocli.converters.excludes} system property has changed since it was last built. */
+        static synchronized Map<Class<?>, ITypeConverter<?>> registry(Tracer tracer) {
+            String excludes = System.getProperty("picocli.converters.excludes", "");
+            if (registry == null || !excludes.equals(registryExcludes)) {
+                registry = Collections.unmodifiableMap(createRegistry(tracer));
+                registryExcludes = excludes;
+            }
+            return registry;
+        }
+        private static Map<Class<?>, ITypeConverter<?>> createRegistry(Tracer tracer) {
+            Map<Class<?>, ITypeConverter<?>> result = new HashMap<Class<?>, ITypeConverter<?>>();
+            result.put(Object.class,        new StringConverter());
+            result.put(String.class,        new StringConverter());
+            result.put(StringBuilder.class, new StringBuilderConverter());
+            result.put(char[].class,        new CharArrayConverter());
+            result.put(CharSequence.class,  new CharSequenceConverter());
+            result.put(Byte.class,          new ByteConverter());
+            result.put(Byte.TYPE,           new ByteConverter());
+            result.put(Boolean.class,       new BooleanConverter());
+            result.put(Boolean.TYPE,        new BooleanConverter());
+            result.put(Character.class,     new CharacterConverter());
+            result.put(Character.TYPE,      new CharacterConverter());
+            result.put(Short.class,         new ShortConverter());
+            result.put(Short.TYPE,          new ShortConverter());
+            result.put(Integer.class,       new IntegerConverter());
+            result.put(Integer.TYPE,        new IntegerConverter());
+            result.put(Long.class,          new LongConverter());
+            result.put(Long.TYPE,           new LongConverter());
+            result.put(Float.class,         new FloatConverter());
+            result.put(Float.TYPE,          new FloatConverter());
+            result.put(Double.class,        new DoubleConverter());
+            result.put(Double.TYPE,         new DoubleConverter());
+            result.put(File.class,          new FileConverter());
+            result.put(URI.class,           new URIConverter());
+            result.put(URL.class,           new URLConverter());
+            result.put(Date.class,          new ISO8601DateConverter());
+            result.put(BigDecimal.class,    new BigDecimalConverter());
+            result.put(BigInteger.class,    new BigIntegerConverter());
+            result.put(Charset.class,       new CharsetConverter());
+            result.put(InetAddress.class,   new InetAddressConverter());
+            result.put(Pattern.class,       new PatternConverter());
+            result.put(UUID.class,          new UUIDConverter());
+            result.put(Currency.class,      new CurrencyConverter());
+            result.put(TimeZone.class,      new TimeZoneConverter());
+            result.put(ByteOrder.class,     new ByteOrderConverter());
+            result.put(Class.class,         new ClassConverter());
+            result.put(NetworkInterface.class, new NetworkInterfaceConverter());
+
+            // #698 use direct calls to Class.forName() and Class.getDeclaredMethod() with constant Strings
+            // to allow GraalVM static analysis to resolve the target elements
+            if (!excluded("java.sql.Time", tracer)) { try { reg(result, Class.forName("java.sql.Time"), new ISO8601TimeConverter(Class.forName("java.sql.Time").getDeclaredConstructor(long.class))); } catch (Exception e) {handle(e, "java.sql.Time", tracer);} }
+
+            if (!excluded("java.sql.Connection", tracer)) { try { reg(result, Class.forName("java.sql.Connection"), Class.forName("java.sql.DriverManager").getDeclaredMethod("getConnection", String.class), String.class); } catch (Exception e) {handle(e, "java.sql.Connection", tracer);} }
+            if (!excluded("java.sql.Driver", tracer))     { try { reg(result, Class.forName("java.sql.Driver"),     Class.forName("java.sql.DriverManager").getDeclaredMethod("getDriver",     String.class), String.class); } catch (Exception e) {handle(e, "java.sql.DriverManager", tracer);} }
+            if (!excluded("java.sql.Timestamp", tracer))  { try { reg(result, Class.forName("java.sql.Timestamp"),  Class.forName("java.sql.Timestamp")    .getDeclaredMethod("valueOf",       String.class), String.class); } catch (Exception e) {handle(e, "java.sql.Timestamp", tracer);} }
+
+            if (!excluded("java.time.Duration", tracer)) {       try { reg(result, Class.forName("java.time.Duration"),       Class.forName("java.time.Duration")      .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {handle(e, "java.time.Duration", tracer);} }
+            if (!excluded("java.time.Instant", tracer)) {        try { reg(result, Class.forName("java.time.Instant"),        Class.forName("java.time.Instant")       .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {handle(e, "java.time.Instant", tracer);} }
+            if (!excluded("java.time.LocalDate", tracer)) {      try { reg(result, Class.forName("java.time.LocalDate"),      Class.forName("java.time.LocalDate")     .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {handle(e, "java.time.LocalDate", tracer);} }
+            if (!excluded("java.time.LocalDateTime", tracer)) {  try { reg(result, Class.forName("java.time.LocalDateTime"),  Class.forName("java.time.LocalDateTime") .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {handle(e, "java.time.LocalDateTime", tracer);} }
+            if (!excluded("java.time.LocalTime", tracer)) {      try { reg(result, Class.forName("java.time.LocalTime"),      Class.forName("java.time.LocalTime")     .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {handle(e, "java.time.LocalTime", tracer);} }
+            if (!excluded("java.time.MonthDay", tracer)) {       try { reg(result, Class.forName("java.time.MonthDay"),       Class.forName("java.time.MonthDay")      .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {handle(e, "java.time.MonthDay", tracer);} }
+            if (!excluded("java.time.OffsetDateTime", tracer)) { try { reg(result, Class.forName("java.time.OffsetDateTime"), Class.forName("java.time.OffsetDateTime").getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {handle(e, "java.time.OffsetDateTime", tracer);} }
+            if (!excluded("java.time.OffsetTime", tracer)) {     try { reg(result, Class.forName("java.time.OffsetTime"),     Class.forName("java.time.OffsetTime")    .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {handle(e, "java.time.OffsetTime", tracer);} }
+            if (!excluded("java.time.Period", tracer)) {         try { reg(result, Class.forName("java.time.Period"),         Class.forName("java.time.Period")        .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {handle(e, "java.time.Period", tracer);} }
+            if (!excluded("java.time.Year", tracer)) {           try { reg(result, Class.forName("java.time.Year"),           Class.forName("java.time.Year")          .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {handle(e, "java.time.Year", tracer);} }
+            if (!excluded("java.time.YearMonth", tracer)) {      try { reg(result, Class.forName("java.time.YearMonth"),      Class.forName("java.time.YearMonth")     .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {handle(e, "java.time.YearMonth", tracer);} }
+            if (!excluded("java.time.ZonedDateTime", tracer)) {  try { reg(result, Class.forName("java.time.ZonedDateTime"),  Class.forName("java.time.ZonedDateTime") .getDeclaredMethod("parse", CharSequence.class), CharSequence.class); } catch (Exception e) {handle(e, "java.time.ZonedDateTime", tracer);} }
+            if (!excluded("java.time.ZoneId", tracer)) {         try { reg(result, Class.forName("java.time.ZoneId"),         Class.forName("java.time.ZoneId")        .getDeclaredMethod("of",    String.class),       String.class);       } catch (Exception e) {handle(e, "java.time.ZoneId", tracer);} }
+            if (!excluded("java.time.ZoneOffset", tracer)) {     try { reg(result, Class.forName("java.time.ZoneOffset"),     Class.forName("java.time.ZoneOffset")    .getDeclaredMethod("of",    String.class),       String.class);       } catch (Exception e) {handle(e, "java.time.ZoneOffset", tracer);} }
+
+            if (!excluded("java.nio.file.Path", tracer)) {     try { reg(result, Class.forName("java.nio.file.Path"),  Class.forName("java.nio.file.Paths").getDeclaredMethod("get", String.class, String[].class), String.class, String[].class); } catch (Exception e) {handle(e, "java.nio.file.Path", tracer);} }
+            return result;
+        }
+        private static void reg(Map<Class<?>, ITypeConverter<?>> registry, Class<?> cls, Method method, Class<?>... paramTypes) {
+            registry.put(cls, new ReflectionConverter(method, paramTypes));
+        }
+        private static void reg(Map<Class<?>, ITypeConverter<?>> registry, Class<?> timeClass, ISO8601TimeConverter converter) {
+            registry.put(timeClass, converter);
+        }
         static Set<String> traced = new HashSet<String>();
         static class ReflectionConverter implements ITypeConverter<Object> {
+            private static final String[] NO_MORE = new String[0];
             private final Method method;
-            private Class<?>[] paramTypes;
+            private final Class<?>[] paramTypes;
 
             public ReflectionConverter(Method method, Class<?>... paramTypes) {
                 this.method = Assert.notNull(method, "method");
@@ -12887,7 +13883,7 @@ public class CommandLine {
             public Object convert(String s) {
                 try {
                     if (paramTypes.length > 1) {
-                        return method.invoke(null, s, new String[0]);
+                        return method.invoke(null, s, NO_MORE);
                     } else {
                         return method.invoke(null, s);
                     }
@@ -15597,6 +16593,7 @@ public class CommandLine {
         public boolean isEnabled(TraceLevel other) { return ordinal() >= other.ordinal(); }
         private void print(Tracer tracer, String msg, Object... params) {
             if (tracer.level.isEnabled(this)) { tracer.stream.printf(prefix(msg), params); }
+            if (tracer.history != null) { tracer.history.add(this, msg, params); }
         }
         private String prefix(String msg) { return "[picocli " + this + "] " + msg; }
         static TraceLevel lookup(String key) { return key == null ? WARN : empty(key) || "true".equalsIgnoreCase(key) ? INFO : valueOf(key); }
@@ -15604,12 +16601,76 @@ public class CommandLine {
     static class Tracer {
         TraceLevel level = TraceLevel.lookup(System.getProperty("picocli.trace"));
         PrintStream stream = System.err;
+        TraceHistory history; // only set while the parser's traceHistorySize is positive; records messages of all levels
         void warn (String msg, Object... params) { TraceLevel.WARN.print(this, msg, params); }
         void info (String msg, Object... params) { TraceLevel.INFO.print(this, msg, params); }
         void debug(String msg, Object... params) { TraceLevel.DEBUG.print(this, msg, params); }
-        boolean isWarn()  { return level.isEnabled(TraceLevel.WARN); }
-        boolean isInfo()  { return level.isEnabled(TraceLevel.INFO); }
-        boolean isDebug() { return level.isEnabled(TraceLevel.DEBUG); }
+        boolean isWarn()  { return level.isEnabled(TraceLevel.WARN) || history != null; }
+        boolean isInfo()  { return level.isEnabled(TraceLevel.INFO) || history != null; }
+        boolean isDebug() { return level.isEnabled(TraceLevel.DEBUG) || history != null; }
+        /** Returns whether messages of the specified level are printed, regardless of whether they are recorded in the history. */
+        boolean isPrinting(TraceLevel traceLevel) { return level.isEnabled(traceLevel); }
+    }
+    /** Fixed-size ring buffer with the most recent trace messages of a parse, see {@link CommandLine#setTraceHistorySize(int)}.
+     * Only the message template and its parameters are stored; messages are formatted when the history is read.
+     * Parameters that may change after they are recorded are stored as text, so the history shows what the parser saw. */
+    static class TraceHistory {
+        /** A trace message parameter whose text does not change, so it is only rendered when the message is formatted. */
+        abstract static class LazyText { public abstract String toString(); }
+        private final TraceLevel[] levels;
+        private final String[] messages;
+        private final Object[][] params;
+        private int next;
+        private int size;
+        TraceHistory(int capacity) {
+            levels = new TraceLevel[capacity];
+            messages = new String[capacity];
+            params = new Object[capacity][];
+        }
+        int capacity() { return messages.length; }
+        void add(TraceLevel level, String msg, Object[] args) {
+            for (int i = 0; i < args.length; i++) {
+                if (!isImmutable(args[i])) { args[i] = snapshot(args[i]); }
+            }
+            levels[next] = level;
+            messages[next] = msg;
+            params[next] = args;
+            if (++next == messages.length) { next = 0; }
+            if (size < messages.length) { size++; }
+        }
+        void clear() {
+            Arrays.fill(levels, null);
+            Arrays.fill(messages, null);
+            Arrays.fill(params, null);
+            next = 0;
+            size = 0;
+        }
+        private static boolean isImmutable(Object param) {
+            return param == null || param instanceof String || param instanceof Integer || param instanceof Long
+                    || param instanceof Boolean || param instanceof Character || param instanceof Enum || param instanceof Class
+                    || param instanceof ArgSpec || param instanceof LazyText;
+        }
+        private static String snapshot(Object param) {
+            try {
+                return String.valueOf(param);
+            } catch (RuntimeException ex) {
+                return param.getClass().getName() + " (" + ex + ")";
+            }
+        }
+        List<String> format() {
+            List<String> result = new ArrayList<String>(size);
+            for (int i = 0, index = next - size < 0 ? next - size + messages.length : next - size; i < size; i++) {
+                String message;
+                try {
+                    message = String.format(levels[index].prefix(messages[index]), params[index]);
+                } catch (RuntimeException ex) {
+                    message = levels[index].prefix(messages[index]) + " (" + ex + ")";
+                }
+                result.add(message.endsWith("\n") ? message.substring(0, message.length() - (message.endsWith("\r\n") ? 2 : 1)) : message);
+                if (++index == messages.length) { index = 0; }
+            }
+            return result;
+        }
     }
     /**
      * Uses cosine similarity to find matches from a candidate set for a specified input.
@@ -16000,12 +17061,24 @@ public class CommandLine {
      * # /home/remko/.git.properties
      * git.commit.cleanup = strip
      * </pre>
+     * <h2>Reloading</h2>
+     * <p>
+     * From picocli 4.3, properties files are read once and shared by all {@code PropertiesDefaultProvider} instances.
+     * Before default values are applied, the provider checks whether the file was modified, and reads it again if it was,
+     * so that applications that parse many command lines pick up the modified default values.
+     * Modifications are detected by comparing the last modified time and length of the file, so a modification that
+     * changes neither is not detected. At most 16 files are kept; the least recently used files are read again when needed.
+     * </p>
      * @since 4.1
      */
-    public static class PropertiesDefaultProvider implements IDefaultValueProvider {
+    public static class PropertiesDefaultProvider implements IBatchDefaultValueProvider {
+        static final int MAX_LOADED_FILES = 16;
+        // shared by all providers; access order: the least recently used files are evicted when there are more than MAX_LOADED_FILES
+        private static final Map<File, LoadedProperties> loaded = new LinkedHashMap<File, LoadedProperties>(16, 0.75f, true);
 
         private Properties properties;
         private File location;
+        private final Map<ArgSpec, String[]> keys = new IdentityHashMap<ArgSpec, String[]>(); // property keys to try, in order
 
         /**
          * Default constructor, used when this default value provider is specified in
@@ -16056,37 +17129,58 @@ public class CommandLine {
          * @see PropertiesDefaultProvider the PropertiesDefaultProvider class description
          */
         public PropertiesDefaultProvider(File file) {
-            this(createProperties(file, null));
-            properties.remove("__picocli_internal_location");
+            if (file == null) {
+                throw new NullPointerException("file is null");
+            }
+            properties = createProperties(file, null);
             location = file;
         }
 
+        /** Returns the properties in the specified file. The file is only read if it was not read before by any
+         * {@code PropertiesDefaultProvider}, or if its last modified time or length changed since it was last read.
+         * A file that was modified shortly before it was read may have been modified again without changing its
+         * last modified time, so such files are read again until their last modified time is old enough to be trusted. */
         private static Properties createProperties(File file, CommandSpec commandSpec) {
-            if (file == null) {
-                throw new NullPointerException("file is null");
-            }
             Tracer tracer = new Tracer();
-            Properties result = new Properties();
             if (file.exists() && file.canRead()) {
+                long lastModified = file.lastModified();
+                long length = file.length();
+                File key = file.getAbsoluteFile();
+                synchronized (loaded) {
+                    LoadedProperties cached = loaded.get(key);
+                    if (cached != null && cached.lastModified == lastModified && cached.length == length
+                            && cached.lastModified + LoadedProperties.TIMESTAMP_RESOLUTION_MILLIS < cached.readTime) {
+                        return cached.properties;
+                    }
+                }
+                Properties result = new Properties();
+                long readTime = System.currentTimeMillis();
                 InputStream in = null;
                 try {
                     String command = commandSpec == null ? "unknown command" : commandSpec.qualifiedName();
                     tracer.debug("Reading defaults from %s for %s%n", file.getAbsolutePath(), command);
                     in = new FileInputStream(file);
                     result.load(in);
-                    result.put("__picocli_internal_location", file);
+                    synchronized (loaded) {
+                        loaded.put(key, new LoadedProperties(result, lastModified, length, readTime));
+                        for (Iterator<File> files = loaded.keySet().iterator(); loaded.size() > MAX_LOADED_FILES; ) {
+                            files.next();
+                            files.remove();
+                        }
+                    }
                 } catch (IOException ioe) {
                     tracer.warn("could not read defaults from %s: %s%n", file.getAbsolutePath(), ioe);
                 } finally {
                     close(in);
                 }
+                return result;
             } else {
                 tracer.warn("defaults configuration file %s does not exist or is not readable%n", file.getAbsolutePath());
             }
-            return result;
+            return new Properties();
         }
 
-        private static Properties loadProperties(CommandSpec commandSpec) {
+        private static File findPropertiesFile(CommandSpec commandSpec) {
             if (commandSpec == null) { return null; }
             Properties p = System.getProperties();
             for (String name : commandSpec.names()) {
@@ -16094,29 +17188,72 @@ public class CommandLine {
                 File defaultPath = new File(p.getProperty("user.home"), "." + name + ".properties");
                 File file = path == null ? defaultPath : new File(path);
                 if (file.canRead()) {
-                    return createProperties(file, commandSpec);
+                    return file;
                 }
             }
-            return loadProperties(commandSpec.parent());
+            return findPropertiesFile(commandSpec.parent());
+        }
+
+        private void loadProperties(CommandSpec commandSpec) {
+            File file = findPropertiesFile(commandSpec);
+            if (file != null) {
+                properties = createProperties(file, commandSpec);
+                location = file;
+            }
         }
 
         public String defaultValue(ArgSpec argSpec) throws Exception {
             if (properties == null) {
-                properties = loadProperties(argSpec.command());
-                location = properties == null ? null : (File) properties.remove("__picocli_internal_location");
+                loadProperties(argSpec.command());
+            }
+            return lookup(argSpec);
+        }
+
+        /** Returns the default values for the specified options and positional parameters.
+         * If the properties were loaded from a file that was modified since it was read, the file is read again first,
+         * so that applications that parse many command lines pick up the modified default values.
+         * @since 4.3 */
+        public Map<ArgSpec, String> defaultValues(CommandSpec commandSpec, Collection<ArgSpec> argSpecs) throws Exception {
+            if (properties == null) {
+                loadProperties(commandSpec);
+            } else if (location != null) {
+                properties = createProperties(location, commandSpec);
+            }
+            Map<ArgSpec, String> result = new IdentityHashMap<ArgSpec, String>();
+            for (ArgSpec argSpec : argSpecs) {
+                String value = lookup(argSpec);
+                if (value != null) { result.put(argSpec, value); }
             }
+            return result;
+        }
+
+        private String lookup(ArgSpec argSpec) {
             if (properties == null || properties.isEmpty()) {
                 return null;
             }
-            return argSpec.isOption()
-                    ? optionDefaultValue((OptionSpec) argSpec)
-                    : positionalDefaultValue((PositionalParamSpec) argSpec);
+            String[] candidates = keys.get(argSpec);
+            if (candidates == null) {
+                candidates = argSpec.isOption()
+                        ? keys(argSpec.descriptionKey(), stripPrefix(((OptionSpec) argSpec).longestName()), argSpec.command())
+                        : keys(argSpec.descriptionKey(), ((PositionalParamSpec) argSpec).paramLabel(), argSpec.command());
+                keys.put(argSpec, candidates);
+            }
+            for (String key : candidates) {
+                String result = properties.getProperty(key);
+                if (result != null) { return result; }
+            }
+            return null;
         }
 
-        private String optionDefaultValue(OptionSpec option) {
-            String result = getValue(option.descriptionKey(), option.command());
-            result = result != null ? result : getValue(stripPrefix(option.longestName()), option.command());
-            return result;
+        /** Returns the property keys for the specified description key and name, in the order in which they are tried:
+         * each key is first qualified with the name of the command, then used as is. */
+        private static String[] keys(String descriptionKey, String name, CommandSpec spec) {
+            List<String> result = new ArrayList<String>(4);
+            for (String key : new String[] {descriptionKey, name}) {
+                if (spec != null) { result.add(spec.qualifiedName(".") + "." + key); }
+                if (key != null) { result.add(key); }
+            }
+            return result.toArray(new String[0]);
         }
         private static String stripPrefix(String prefixed) {
             for (int i = 0; i < prefixed.length(); i++) {
@@ -16127,20 +17264,18 @@ public class CommandLine {
             return prefixed;
         }
 
-        private String positionalDefaultValue(PositionalParamSpec positional) {
-            String result = getValue(positional.descriptionKey(), positional.command());
-            result = result != null ? result : getValue(positional.paramLabel(), positional.command());
-            return result;
-        }
-
-        private String getValue(String key, CommandSpec spec) {
-            String result = null;
-            if (spec != null) {
-                String cmd = spec.qualifiedName(".");
-                result = properties.getProperty(cmd + "." + key);
+        private static class LoadedProperties {
+            static final long TIMESTAMP_RESOLUTION_MILLIS = 2000; // coarsest last modified time resolution of common file systems
+            final Properties properties;
+            final long lastModified;
+            final long length;
+            final long readTime;
+            LoadedProperties(Properties properties, long lastModified, long length, long readTime) {
+                this.properties = properties;
+                this.lastModified = lastModified;
+                this.length = length;
+                this.readTime = readTime;
             }
-            if (result != null) { return result; }
-            return key == null ? null : properties.getProperty(key);
         }
         @Override public String toString() {
             return getClass().getSimpleName() + "[" + location + "]";
@@ -0,0 +1,158 @@
+package picocli;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.java.lang.system.ProvideSystemProperty;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
+import picocli.CommandLine.ParseResult;
+import picocli.CommandLine.Parameters;
+import picocli.CommandLine.UnmatchedArgumentException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class AbbreviationTest {
+    @Rule
+    public final ProvideSystemProperty ansiOFF = new ProvideSystemProperty("picocli.ansi", "false");
+
+    @Command(name = "top", subcommands = {Status.class, Stash.class, Commit.class})
+    static class Top {
+        @Option(names = "--verbose") boolean verbose;
+        @Option(names = "--version-file") String versionFile;
+        @Option(names = {"-c", "--count"}) int count;
+        @Option(names = "--color", negatable = true) boolean color;
+    }
+    @Command(name = "status", aliases = "stat") static class Status {}
+    @Command(name = "stash") static class Stash {}
+    @Command(name = "commit", aliases = "commit-all") static class Commit {
+        @Parameters List<String> files;
+    }
+
+    @Test
+    public void testAbbreviationsDisabledByDefault() {
+        CommandLine cmd = new CommandLine(new Top());
+        assertFalse(cmd.isAbbreviatedOptionsAllowed());
+        assertFalse(cmd.isAbbreviatedSubcommandsAllowed());
+        try {
+            cmd.parseArgs("--verb");
+            fail("Expected exception");
+        } catch (UnmatchedArgumentException ex) {
+            assertEquals("Unknown option: '--verb'", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testUniqueOptionPrefixes() {
+        Top top = new Top();
+        new CommandLine(top).setAbbreviatedOptionsAllowed(true).parseArgs("--verb", "--version-f=abc", "--cou", "3", "--col");
+        assertTrue(top.verbose);
+        assertEquals("abc", top.versionFile);
+        assertEquals(3, top.count);
+        assertTrue(top.color);
+
+        ParseResult parseResult = new CommandLine(new Top()).setAbbreviatedOptionsAllowed(true).parseArgs("--no-col");
+        assertTrue(parseResult.hasMatchedOption("--color"));
+        assertEquals(Boolean.FALSE, parseResult.matchedOptionValue("--color", null));
+    }
+
+    @Test
+    public void testAmbiguousOptionPrefix() {
+        try {
+            new CommandLine(new Top()).setAbbreviatedOptionsAllowed(true).parseArgs("--ver");
+            fail("Expected exception");
+        } catch (ParameterException ex) {
+            assertEquals("Error: '--ver' is not unique: it matches '--verbose', '--version-file'", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testExactOptionNameWinsOverPrefix() {
+        @Command class App {
+            @Option(names = "--verb") boolean verb;
+            @Option(names = "--verbose") boolean verbose;
+        }
+        App app = new App();
+        new CommandLine(app).setAbbreviatedOptionsAllowed(true).parseArgs("--verb");
+        assertTrue(app.verb);
+        assertFalse(app.verbose);
+    }
+
+    @Test
+    public void testSingleHyphenIsNotAnAbbreviation() {
+        @Command class App {
+            @Option(names = "--verbose") boolean verbose;
+            @Parameters String file;
+        }
+        App app = new App();
+        new CommandLine(app).setAbbreviatedOptionsAllowed(true).parseArgs("-");
+        assertFalse(app.verbose);
+        assertEquals("-", app.file);
+    }
+
+    @Test
+    public void testUniqueSubcommandPrefixes() {
+        CommandLine cmd = new CommandLine(new Top()).setAbbreviatedSubcommandsAllowed(true);
+        ParseResult parseResult = cmd.parseArgs("com", "a", "b");
+        assertEquals("commit", parseResult.subcommand().commandSpec().name());
+        assertEquals(2, parseResult.subcommand().matchedPositionals().size());
+
+        parseResult = cmd.parseArgs("stat");
+        assertEquals("status", parseResult.subcommand().commandSpec().name());
+
+        parseResult = cmd.parseArgs("statu");
+        assertEquals("status", parseResult.subcommand().commandSpec().name());
+    }
+
+    @Test
+    public void testAliasesOfSameSubcommandAreNotAmbiguous() {
+        CommandLine cmd = new CommandLine(new Top()).setAbbreviatedSubcommandsAllowed(true);
+        ParseResult parseResult = cmd.parseArgs("comm"); // matches 'commit' and 'commit-all'
+        assertEquals("commit", parseResult.subcommand().commandSpec().name());
+    }
+
+    @Test
+    public void testAmbiguousSubcommandPrefix() {
+        try {
+            new CommandLine(new Top()).setAbbreviatedSubcommandsAllowed(true).parseArgs("st");
+            fail("Expected exception");
+        } catch (ParameterException ex) {
+            assertEquals("Error: 'st' is not unique: it matches 'stash', 'stat', 'status'", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testAbbreviationSettingsPropagateToSubcommands() {
+        CommandLine cmd = new CommandLine(new Top()).setAbbreviatedOptionsAllowed(true).setAbbreviatedSubcommandsAllowed(true);
+        assertTrue(cmd.getSubcommands().get("commit").isAbbreviatedOptionsAllowed());
+        assertTrue(cmd.getSubcommands().get("commit").isAbbreviatedSubcommandsAllowed());
+    }
+
+    @Test
+    public void testVarargsOptionFollowedByAbbreviatedOption() {
+        class App {
+            @Option(names = "--files", arity = "1..*") List<String> files;
+            @Option(names = "--verbose") boolean verbose;
+        }
+        App app = new App();
+        new CommandLine(app).setAbbreviatedOptionsAllowed(true).parseArgs("--files", "a", "b", "--verb");
+        assertEquals(Arrays.asList("a", "b"), app.files);
+        assertTrue(app.verbose);
+    }
+
+    @Test
+    public void testVarargsOptionFollowedByAbbreviatedSubcommand() {
+        @Command(name = "top", subcommands = Status.class)
+        class App {
+            @Option(names = "--files", arity = "1..*") List<String> files;
+        }
+        App app = new App();
+        ParseResult parseResult = new CommandLine(app).setAbbreviatedSubcommandsAllowed(true).parseArgs("--files", "a", "sta");
+        assertEquals(Arrays.asList("a"), app.files);
+        assertTrue(parseResult.hasSubcommand());
+        assertEquals("status", parseResult.subcommand().commandSpec().name());
+    }
+}
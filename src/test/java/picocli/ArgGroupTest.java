@@ -2979,6 +2979,30 @@ public class ArgGroupTest {
         new CommandLine(new Issue940Command());
     }
 
+    static class RepeatingGroupArray {
+        @ArgGroup(exclusive = false, multiplicity = "0..*")
+        Dependency[] dependencies;
+
+        static class Dependency {
+            @Option(names = "--dependency", required = true) String name;
+            @Option(names = "--exclude") String[] excludes;
+        }
+    }
+
+    @Test
+    public void testRepeatingGroupArrayAccumulatesAllMatches() {
+        RepeatingGroupArray bean = new RepeatingGroupArray();
+        new CommandLine(bean).parseArgs("--dependency=a", "--exclude=x", "--exclude=y",
+                "--dependency=b", "--dependency=c", "--exclude=z");
+        assertEquals(3, bean.dependencies.length);
+        assertEquals("a", bean.dependencies[0].name);
+        assertArrayEquals(new String[] {"x", "y"}, bean.dependencies[0].excludes);
+        assertEquals("b", bean.dependencies[1].name);
+        assertNull(bean.dependencies[1].excludes);
+        assertEquals("c", bean.dependencies[2].name);
+        assertArrayEquals(new String[] {"z"}, bean.dependencies[2].excludes);
+    }
+
     // TODO GroupMatch.container()
     // TODO GroupMatch.matchedMaxElements()
     // TODO GroupMatch.matchedFully()
@@ -59,6 +59,42 @@ public class ArgSplitTest {
         }
     }
 
+    @Test
+    public void testSplitInPrimitiveOptionArrays() {
+        class Args {
+            @Option(names = "-i", split = ",") int[] ints;
+            @Option(names = "-l", split = ",") long[] longs;
+            @Option(names = "-d", split = ",") double[] doubles;
+            @Option(names = "-s", split = ",") short[] shorts;
+        }
+        Args args = CommandLine.populateCommand(new Args(), "-i=1,2,3", "-i=4", "-l=5,6", "-d=7.5,8", "-s=9,10");
+        assertArrayEquals(new int[] {1, 2, 3, 4}, args.ints);
+        assertArrayEquals(new long[] {5, 6}, args.longs);
+        assertArrayEquals(new double[] {7.5, 8}, args.doubles, 0.0);
+        assertArrayEquals(new short[] {9, 10}, args.shorts);
+    }
+
+    static class ShortConverter implements CommandLine.ITypeConverter<Short> {
+        public Short convert(String value) { return Short.valueOf(value); }
+    }
+    static class IntConverter implements CommandLine.ITypeConverter<Integer> {
+        public Integer convert(String value) { return Integer.valueOf(value); }
+    }
+
+    @Test
+    public void testSplitInPrimitiveOptionArraysWithWideningConverters() {
+        class Args {
+            @Option(names = "-i", split = ",", converter = ShortConverter.class) int[] ints;
+            @Option(names = "-l", split = ",", converter = IntConverter.class) long[] longs;
+            @Option(names = "-d", split = ",", converter = IntConverter.class) double[] doubles;
+        }
+        // the converted values are not instances of the array's wrapper type, so they are widened by Array.set
+        Args args = CommandLine.populateCommand(new Args(), "-i=1,2", "-i=3", "-l=4,5", "-d=6");
+        assertArrayEquals(new int[] {1, 2, 3}, args.ints);
+        assertArrayEquals(new long[] {4, 5}, args.longs);
+        assertArrayEquals(new double[] {6}, args.doubles, 0.0);
+    }
+
     @Test
     public void testSplitInOptionArrayWithSpaces() {
         class Args {
@@ -752,4 +788,23 @@ public class ArgSplitTest {
         assertEquals("x=y,z=0", app.map.get("a=b=c"));
         assertEquals("x2 y2", app.map.get("d=e=f"));
     }
+
+    @Test
+    public void testSplitRegexIsRecompiledWhenInterpolatedValueChanges() {
+        class App {
+            @Option(names = "-x", split = "${sys:splitTestRegex}") List<String> list;
+        }
+        System.setProperty("splitTestRegex", ";\\s*");
+        App app = new App();
+        CommandLine cmd = new CommandLine(app);
+        cmd.parseArgs("-x", "a; b;c");
+        assertEquals(Arrays.asList("a", "b", "c"), app.list);
+
+        cmd.parseArgs("-x", "d;  e");
+        assertEquals(Arrays.asList("d", "e"), app.list);
+
+        System.setProperty("splitTestRegex", "\\|+");
+        cmd.parseArgs("-x", "f||g;h");
+        assertEquals(Arrays.asList("f", "g;h"), app.list);
+    }
 }
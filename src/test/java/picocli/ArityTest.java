@@ -928,6 +928,50 @@ public class ArityTest {
 
     }
 
+    @Test
+    public void testArrayOptionRepeatedManyTimes() {
+        class App {
+            @Option(names = "-I") String[] dirs;
+            @Option(names = "-n") int[] numbers;
+        }
+        int count = 50000;
+        List<String> args = new ArrayList<String>();
+        for (int i = 0; i < count; i++) {
+            args.add("-I");
+            args.add("dir" + i);
+            args.add("-n" + i);
+        }
+        App app = CommandLine.populateCommand(new App(), args.toArray(new String[0]));
+        assertEquals(count, app.dirs.length);
+        assertEquals(count, app.numbers.length);
+        for (int i = 0; i < count; i++) {
+            assertEquals("dir" + i, app.dirs[i]);
+            assertEquals(i, app.numbers[i]);
+        }
+    }
+
+    @Test
+    public void testManyPositionalValuesMixedWithIndexedPositionals() {
+        class App {
+            @Parameters(index = "0") String first;
+            @Parameters(index = "1..*") List<String> rest;
+            @Option(names = "-v") boolean verbose;
+        }
+        int count = 50000;
+        List<String> args = new ArrayList<String>();
+        for (int i = 0; i < count; i++) {
+            args.add("file" + i);
+        }
+        args.add(count / 2, "-v");
+        App app = CommandLine.populateCommand(new App(), args.toArray(new String[0]));
+        assertTrue(app.verbose);
+        assertEquals("file0", app.first);
+        assertEquals(count - 1, app.rest.size());
+        for (int i = 1; i < count; i++) {
+            assertEquals("file" + i, app.rest.get(i - 1));
+        }
+    }
+
     private static class ArrayOptionArity2AndParameters {
         @Parameters double[] doubleParams;
         @Option(names = "-doubles", arity = "2") double[] doubleOptions;
@@ -5,13 +5,22 @@ import static org.junit.Assert.*;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.contrib.java.lang.system.ProvideSystemProperty;
+import picocli.CommandLine.ArgGroup;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.IBatchDefaultValueProvider;
 import picocli.CommandLine.IDefaultValueProvider;
 import picocli.CommandLine.Model.ArgSpec;
+import picocli.CommandLine.Model.CommandSpec;
+import picocli.CommandLine.Model.OptionSpec;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 import picocli.CommandLine.PropertiesDefaultProvider;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public class DefaultProviderTest {
@@ -291,4 +300,106 @@ public class DefaultProviderTest {
         String value = defaultProvider.defaultValue(CommandLine.Model.OptionSpec.builder("-x").build());
         assertEquals("xvalue", value);
     }
+
+    static class ChangingDefaultProvider implements IDefaultValueProvider {
+        String value = "1.5";
+        public String defaultValue(ArgSpec argSpec) {
+            return argSpec.isOption() && "-x".equals(((CommandLine.Model.OptionSpec) argSpec).longestName()) ? value : null;
+        }
+    }
+
+    @Test
+    public void testImmutableConvertedDefaultIsReusedUntilDefaultChanges() {
+        class Cmd {
+            @Option(names = "-x") BigDecimal x;
+            @Option(names = "-d", defaultValue = "2020-01-31") Date date;
+        }
+        ChangingDefaultProvider provider = new ChangingDefaultProvider();
+        Cmd cmd = new Cmd();
+        CommandLine commandLine = new CommandLine(cmd).setDefaultValueProvider(provider);
+        commandLine.parseArgs();
+        BigDecimal first = cmd.x;
+        Date firstDate = cmd.date;
+        assertEquals(new BigDecimal("1.5"), first);
+
+        commandLine.parseArgs();
+        assertSame(first, cmd.x);
+        assertEquals(firstDate, cmd.date);
+        assertNotSame("mutable values are converted again", firstDate, cmd.date);
+
+        provider.value = "2.5";
+        commandLine.parseArgs();
+        assertEquals(new BigDecimal("2.5"), cmd.x);
+    }
+
+    @Test
+    public void testDefaultConvertedByCustomConverterIsNotReused() {
+        class Cmd {
+            @Option(names = "-x", defaultValue = "1", converter = CountingConverter.class) Integer x;
+        }
+        CountingConverter.count = 0;
+        CommandLine commandLine = new CommandLine(new Cmd());
+        commandLine.parseArgs();
+        commandLine.parseArgs();
+        assertEquals(2, CountingConverter.count);
+    }
+
+    static class CountingConverter implements CommandLine.ITypeConverter<Integer> {
+        static int count;
+        public Integer convert(String value) {
+            count++;
+            return Integer.valueOf(value);
+        }
+    }
+
+    static class TestBatchDefaultProvider implements IBatchDefaultValueProvider {
+        int batchCalls;
+        int singleCalls;
+        Collection<ArgSpec> requested;
+        public String defaultValue(ArgSpec argSpec) {
+            singleCalls++;
+            return null;
+        }
+        public Map<ArgSpec, String> defaultValues(CommandSpec commandSpec, Collection<ArgSpec> argSpecs) {
+            batchCalls++;
+            requested = argSpecs;
+            Map<ArgSpec, String> result = new HashMap<ArgSpec, String>();
+            for (ArgSpec arg : argSpecs) {
+                if (arg.isOption() && !"-c".equals(((OptionSpec) arg).longestName())) {
+                    result.put(arg, "from batch " + ((OptionSpec) arg).longestName());
+                }
+            }
+            return result;
+        }
+    }
+
+    static class BatchGroup {
+        @Option(names = "-g") String g;
+    }
+
+    @Test
+    public void testBatchDefaultProviderIsCalledOncePerParse() {
+        class Cmd {
+            @Option(names = "-a") String a;
+            @Option(names = "-b", defaultValue = "annotated") String b;
+            @Option(names = "-c", defaultValue = "annotated") String c;
+            @ArgGroup(exclusive = false) BatchGroup group;
+        }
+        TestBatchDefaultProvider provider = new TestBatchDefaultProvider();
+        Cmd cmd = new Cmd();
+        CommandLine commandLine = new CommandLine(cmd).setDefaultValueProvider(provider);
+        commandLine.parseArgs("-g", "x");
+
+        assertEquals(1, provider.batchCalls);
+        assertEquals(0, provider.singleCalls);
+        assertEquals(4, provider.requested.size());
+        assertEquals("from batch -a", cmd.a);
+        assertEquals("from batch -b", cmd.b);
+        assertEquals("annotated", cmd.c);
+        assertEquals("x", cmd.group.g);
+
+        commandLine.parseArgs();
+        assertEquals(2, provider.batchCalls);
+        assertEquals(0, provider.singleCalls);
+    }
 }
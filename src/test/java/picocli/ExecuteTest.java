@@ -830,7 +830,7 @@ public class ExecuteTest {
         //        "[picocli DEBUG] Creating CommandSpec for object 5cbc508c of class picocli.ExecuteTest$27App with factory picocli.CommandLine$DefaultFactory%n" +
         //        "[picocli INFO] Picocli version: 4.2.1-SNAPSHOT, JVM: 1.8.0_161 (Oracle Corporation Java HotSpot(TM) 64-Bit Server VM 25.161-b12), OS: Windows 10 10.0 amd64%n" +
         //        "[picocli INFO] Parsing 1 command line args [-x=abc]%n" +
-        //        "[picocli DEBUG] Parser configuration: posixClusteredShortOptionsAllowed=true, stopAtPositional=false, stopAtUnmatched=false, separator=null, overwrittenOptionsAllowed=false, unmatchedArgumentsAllowed=false, expandAtFiles=true, atFileCommentChar=#, useSimplifiedAtFiles=false, endOfOptionsDelimiter=--, limitSplit=false, aritySatisfiedByAttachedOptionParam=false, toggleBooleanFlags=false, unmatchedOptionsArePositionalParams=false, collectErrors=false,caseInsensitiveEnumValuesAllowed=false, trimQuotes=false, splitQuotedStrings=false%n" +
+        //        "[picocli DEBUG] Parser configuration: posixClusteredShortOptionsAllowed=true, stopAtPositional=false, stopAtUnmatched=false, separator=null, overwrittenOptionsAllowed=false, unmatchedArgumentsAllowed=false, expandAtFiles=true, atFileCommentChar=#, useSimplifiedAtFiles=false, endOfOptionsDelimiter=--, limitSplit=false, aritySatisfiedByAttachedOptionParam=false, toggleBooleanFlags=false, unmatchedOptionsArePositionalParams=false, collectErrors=false,caseInsensitiveEnumValuesAllowed=false, trimQuotes=false, splitQuotedStrings=false, abbreviatedSubcommandsAllowed=false, abbreviatedOptionsAllowed=false, converterCacheSize=0, lazyTypeConversion=false, traceHistorySize=0%n" +
         //        "[picocli DEBUG] (ANSI is disabled by default: systemproperty[picocli.ansi]=false, isatty=false, TERM=null, OSTYPE=null, isWindows=true, JansiConsoleInstalled=false, ANSICON=null, ConEmuANSI=null, NO_COLOR=null, CLICOLOR=null, CLICOLOR_FORCE=null)%n" +
         //        "[picocli DEBUG] Set initial value for field int picocli.ExecuteTest$27App.x of type int to 0.%n" +
         //        "[picocli DEBUG] Initializing picocli.ExecuteTest$27App: 1 options, 0 positional parameters, 0 required, 0 groups, 0 subcommands.%n" +
@@ -35,6 +35,22 @@ public class InterpolatorTest {
         assertEquals(expected, interpolator.interpolate(original));
     }
 
+    @Test
+    public void textWithoutDollarIsReturnedAsIs() {
+        Interpolator interpolator = new Interpolator(createTestSpec());
+        String original = "This is a description without variables.";
+        assertSame(original, interpolator.interpolate(original));
+        assertSame(original, interpolator.interpolateCommandName(original));
+    }
+
+    @Test
+    public void resolvedValuesAreInterpolatedByLaterLookups() {
+        CommandSpec hierarchy = createTestSpec();
+        Interpolator interpolator = new Interpolator(hierarchy);
+        System.setProperty("outer", "[${env:NO_SUCH_ENV_VAR_12345:-inner}]");
+        assertEquals("value: [inner] and ${sys:outer}", interpolator.interpolate("value: ${sys:outer} and $${sys:outer}"));
+    }
+
     @Test
     public void notInterpolateIfEscaped() {
         CommandSpec hierarchy = createTestSpec();
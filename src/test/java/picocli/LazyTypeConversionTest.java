@@ -0,0 +1,171 @@
+package picocli;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.java.lang.system.ProvideSystemProperty;
+import org.junit.contrib.java.lang.system.RestoreSystemProperties;
+import org.junit.contrib.java.lang.system.SystemErrRule;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.ITypeConverter;
+import picocli.CommandLine.Model.CommandSpec;
+import picocli.CommandLine.Model.OptionSpec;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
+import picocli.CommandLine.ParseResult;
+import picocli.CommandLine.Parameters;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class LazyTypeConversionTest {
+    @Rule
+    public final ProvideSystemProperty ansiOFF = new ProvideSystemProperty("picocli.ansi", "false");
+
+    @Rule
+    public final RestoreSystemProperties restoreSystemProperties = new RestoreSystemProperties();
+
+    @Rule
+    public final SystemErrRule systemErrRule = new SystemErrRule().enableLog().muteForSuccessfulTests();
+
+    static int conversions;
+
+    static class CountingConverter implements ITypeConverter<StringBuilder> {
+        public StringBuilder convert(String value) {
+            conversions++;
+            if ("bad".equals(value)) { throw new CommandLine.TypeConversionException("'bad' is not good"); }
+            return new StringBuilder(value);
+        }
+    }
+
+    @Command
+    interface App {
+        @Option(names = "-a", converter = CountingConverter.class) StringBuilder a();
+        @Option(names = "-b", converter = CountingConverter.class, defaultValue = "default") StringBuilder b();
+        @Option(names = "-n") int number();
+        @Parameters(converter = CountingConverter.class) List<StringBuilder> list();
+    }
+
+    @Test
+    public void testLazyTypeConversionDisabledByDefault() {
+        conversions = 0;
+        CommandLine cmd = new CommandLine(App.class);
+        assertFalse(cmd.isLazyTypeConversion());
+        cmd.parseArgs("-a", "x");
+        assertEquals(2, conversions); // -a and the default of -b
+    }
+
+    @Test
+    public void testValuesOfGetterMethodsAreConvertedOnFirstRead() {
+        conversions = 0;
+        CommandLine cmd = new CommandLine(App.class).setLazyTypeConversion(true);
+        ParseResult parseResult = cmd.parseArgs("-a", "x", "-n", "3");
+        assertEquals(0, conversions);
+
+        App app = cmd.getCommand();
+        StringBuilder a = app.a();
+        assertEquals("x", a.toString());
+        assertEquals(1, conversions);
+        assertSame(a, app.a());
+        assertSame(a, parseResult.matchedOptionValue("-a", null));
+        assertSame(a, cmd.getCommandSpec().findOption("-a").typedValues().get(0));
+        assertEquals(1, conversions);
+
+        assertEquals(3, app.number());
+        assertEquals("default", app.b().toString());
+        assertEquals(2, conversions);
+    }
+
+    @Test
+    public void testMultiValueArgsAreConvertedWhileParsing() {
+        conversions = 0;
+        CommandLine cmd = new CommandLine(App.class).setLazyTypeConversion(true);
+        cmd.parseArgs("p", "q");
+        assertEquals(2, conversions);
+    }
+
+    @Test
+    public void testConversionErrorIsThrownOnRead() {
+        CommandLine cmd = new CommandLine(App.class).setLazyTypeConversion(true);
+        cmd.parseArgs("-a", "bad");
+        App app = cmd.getCommand();
+        try {
+            app.a();
+            fail("Expected exception");
+        } catch (ParameterException ex) {
+            assertEquals("Invalid value for option '-a': 'bad' is not good", ex.getMessage());
+            assertSame(cmd, ex.getCommandLine());
+        }
+    }
+
+    @Command
+    interface DefaultedApp {
+        @Option(names = "-x", defaultValue = "notAnInt") int x();
+    }
+
+    @Test
+    public void testOverriddenInvalidDefaultIsNotConverted() {
+        CommandLine cmd = new CommandLine(DefaultedApp.class).setLazyTypeConversion(true);
+        cmd.parseArgs("-x", "5");
+        DefaultedApp app = cmd.getCommand();
+        assertEquals(5, app.x());
+    }
+
+    @Test
+    public void testOverriddenInvalidDefaultIsNotConvertedWhenTracing() {
+        TestUtil.setTraceLevel("INFO");
+        CommandLine cmd = new CommandLine(DefaultedApp.class).setLazyTypeConversion(true);
+        cmd.parseArgs("-x", "5");
+        DefaultedApp app = cmd.getCommand();
+        assertEquals(5, app.x());
+        assertTrue(systemErrRule.getLog(), systemErrRule.getLog().contains("to '5' (was 'notAnInt')"));
+    }
+
+    @Command
+    interface BoxedApp {
+        @Option(names = "-x") Integer x();
+    }
+
+    @Test
+    public void testSetValueAfterParseReturnsConvertedPreviousValue() {
+        CommandLine cmd = new CommandLine(BoxedApp.class).setLazyTypeConversion(true);
+        cmd.parseArgs("-x", "6");
+        Integer previous = cmd.getCommandSpec().findOption("-x").setValue(8);
+        assertEquals(Integer.valueOf(6), previous);
+        assertEquals(Integer.valueOf(8), ((BoxedApp) cmd.getCommand()).x());
+    }
+
+    @Test
+    public void testProgrammaticArgSpecIsConvertedOnFirstRead() {
+        conversions = 0;
+        CommandSpec spec = CommandSpec.create();
+        spec.addOption(OptionSpec.builder("-x").type(StringBuilder.class).converters(new CountingConverter()).build());
+        CommandLine cmd = new CommandLine(spec).setLazyTypeConversion(true);
+        cmd.parseArgs("-x", "abc");
+        assertEquals(0, conversions);
+        assertEquals("abc", spec.findOption("-x").getValue().toString());
+        assertEquals(1, conversions);
+    }
+
+    @Test
+    public void testFieldsAreConvertedWhileParsing() {
+        class FieldApp {
+            @Option(names = "-a", converter = CountingConverter.class) StringBuilder a;
+        }
+        FieldApp app = new FieldApp();
+        try {
+            new CommandLine(app).setLazyTypeConversion(true).parseArgs("-a", "bad");
+            fail("Expected exception");
+        } catch (ParameterException ex) {
+            assertEquals("Invalid value for option '-a': 'bad' is not good", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testLazyTypeConversionPropagatesToSubcommands() {
+        @Command(subcommands = CommandLine.HelpCommand.class)
+        class Top {}
+        CommandLine cmd = new CommandLine(new Top()).setLazyTypeConversion(true);
+        assertTrue(cmd.getSubcommands().get("help").isLazyTypeConversion());
+    }
+}
@@ -346,4 +346,49 @@ public class LenientParsingTest {
         assertEquals("Queue full", parseResult.errors().get(0).getCause().getMessage());
     }
 
+    @Test
+    public void testArrayValuesMatchedBeforeErrorAreKept() {
+        class App {
+            @Option(names = "-x") String[] x;
+            @Option(names = "-n") int n;
+        }
+        App app = new App();
+        CommandLine cmd = new CommandLine(app);
+        cmd.getCommandSpec().parser().collectErrors(true);
+        cmd.parseArgs("-x", "a", "-x", "b", "-n", "notanumber");
+
+        assertEquals(1, cmd.getParseResult().errors().size());
+        assertArrayEquals(new String[] {"a", "b"}, app.x);
+    }
+
+    @Test
+    public void testArrayValuesMatchedBeforeThrownErrorAreKept() {
+        class App {
+            @Option(names = "-x") String[] x;
+            @Option(names = "-n") int n;
+        }
+        App app = new App();
+        try {
+            new CommandLine(app).parseArgs("-x", "a", "-n", "notanumber");
+            fail("Expected exception");
+        } catch (ParameterException ex) {
+            assertEquals("Invalid value for option '-n': 'notanumber' is not an int", ex.getMessage());
+        }
+        assertArrayEquals(new String[] {"a"}, app.x);
+    }
+
+    @Test
+    public void testArraySetterFailureDoesNotReplaceParseError() {
+        class App {
+            @Option(names = "-x") void setX(String[] x) { throw new IllegalStateException("cannot set x"); }
+            @Option(names = "-n") int n;
+        }
+        try {
+            new CommandLine(new App()).parseArgs("-x", "a", "-n", "notanumber");
+            fail("Expected exception");
+        } catch (ParameterException ex) {
+            assertEquals("Invalid value for option '-n': 'notanumber' is not an int", ex.getMessage());
+        }
+        assertTrue(systemErrRule.getLog(), systemErrRule.getLog().contains("Could not set array values matched before the parse error"));
+    }
 }
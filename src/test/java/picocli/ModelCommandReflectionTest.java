@@ -10,8 +10,10 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 public class ModelCommandReflectionTest {
@@ -304,4 +306,28 @@ public class ModelCommandReflectionTest {
     public void testBuildUnmatchedForField_valid() {
         CommandSpec.forAnnotatedObject(new MyUnmatched2());
     }
+
+    static class CachedMembers {
+        @Option(names = "-x") int x;
+        @Parameters String[] params;
+        int notAnnotated;
+    }
+    @Test
+    public void testAnnotatedMembersAreCachedPerClass() throws Exception {
+        Class<?> cls = Class.forName("picocli.CommandLine$Model$CommandReflection$AnnotatedMembers");
+        Method of = cls.getDeclaredMethod("of", Class.class);
+        of.setAccessible(true);
+        Object first = of.invoke(null, CachedMembers.class);
+        Object second = of.invoke(null, CachedMembers.class);
+        assertSame(first, second);
+
+        CachedMembers one = new CachedMembers();
+        CachedMembers two = new CachedMembers();
+        new CommandLine(one).parseArgs("-x", "1", "a");
+        new CommandLine(two).parseArgs("-x", "2", "b", "c");
+        assertEquals(1, one.x);
+        assertArrayEquals(new String[]{"a"}, one.params);
+        assertEquals(2, two.x);
+        assertArrayEquals(new String[]{"b", "c"}, two.params);
+    }
 }
@@ -1241,6 +1241,54 @@ public class ModelCommandSpecTest {
         assertFalse(spec.resemblesOption("blah", tracer2));
     }
 
+    @Test
+    public void testResemblesOption_CommonPrefixCharsMatchesPairwiseComparison() {
+        String[] names = {"-a", "-b", "--all", "--alpha", "--beta", "-x", "/x", "--", "--alpha-beta", "-abc", "a"};
+        String[] sorted = names.clone();
+        Arrays.sort(sorted);
+        String[] args = {"-", "--", "--al", "--alpha-b", "-abcd", "/tmp/file", "file", "a", "--zeta", "-x", "\uffff"};
+        for (String arg : args) {
+            int expected = 0;
+            for (String name : names) {
+                for (int i = 0; i < arg.length() && i < name.length() && arg.charAt(i) == name.charAt(i); i++) { expected++; }
+            }
+            assertEquals(arg, expected, CommandSpec.commonPrefixChars(sorted, arg));
+        }
+    }
+
+    @Test
+    public void testResemblesOption_UpdatedWhenOptionsAdded() {
+        CommandSpec spec = CommandSpec.create();
+        spec.addOption(OptionSpec.builder("/y").build());
+        assertTrue(spec.resemblesOption("/tmp", null));
+        spec.addOption(OptionSpec.builder("-x").build());
+        spec.addOption(OptionSpec.builder("-w").build());
+        assertFalse(spec.resemblesOption("/tmp", null));
+    }
+
+    @Test
+    public void testPositionalParametersAt() {
+        CommandSpec spec = CommandSpec.create();
+        PositionalParamSpec p0 = PositionalParamSpec.builder().index("0").build();
+        PositionalParamSpec p1to3 = PositionalParamSpec.builder().index("1..3").build();
+        PositionalParamSpec all = PositionalParamSpec.builder().index("0..*").build();
+        PositionalParamSpec p2 = PositionalParamSpec.builder().index("2").build();
+        spec.addPositional(p0).addPositional(p1to3).addPositional(all).addPositional(p2);
+
+        assertArrayEquals(new PositionalParamSpec[] {p0, all}, spec.positionalParametersAt(0));
+        assertArrayEquals(new PositionalParamSpec[] {p1to3, all}, spec.positionalParametersAt(1));
+        assertArrayEquals(new PositionalParamSpec[] {p1to3, all, p2}, spec.positionalParametersAt(2));
+        assertArrayEquals(new PositionalParamSpec[] {p1to3, all}, spec.positionalParametersAt(3));
+        assertArrayEquals(new PositionalParamSpec[] {all}, spec.positionalParametersAt(4));
+        assertArrayEquals(new PositionalParamSpec[] {all}, spec.positionalParametersAt(100000));
+
+        spec.remove(all);
+        assertArrayEquals(new PositionalParamSpec[0], spec.positionalParametersAt(4));
+        PositionalParamSpec p4 = PositionalParamSpec.builder().index("4").build();
+        spec.addPositional(p4);
+        assertArrayEquals(new PositionalParamSpec[] {p4}, spec.positionalParametersAt(4));
+    }
+
     @Test
     public void testResemblesOption_WithoutOptions() {
         CommandSpec spec = CommandSpec.wrapWithoutInspection(null);
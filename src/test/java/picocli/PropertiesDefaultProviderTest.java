@@ -17,6 +17,8 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 import static org.junit.Assert.*;
@@ -244,4 +246,96 @@ public class PropertiesDefaultProviderTest {
         assertEquals("9", actual);
 
     }
+
+    private static void writeDefaults(File file, String content, long lastModified) throws IOException {
+        FileWriter fw = new FileWriter(file);
+        fw.write(content);
+        fw.close();
+        assertTrue(file.setLastModified(lastModified));
+    }
+
+    static class Reloadable {
+        @Option(names = "--aaa") int aaa;
+    }
+
+    @Test
+    public void testModifiedFileIsReadAgain() throws Exception {
+        File temp = File.createTempFile("Reloadable", ".properties");
+        long now = System.currentTimeMillis();
+        writeDefaults(temp, "aaa=1\n", now - 20000);
+
+        Reloadable reloadable = new Reloadable();
+        CommandLine cmd = new CommandLine(reloadable).setDefaultValueProvider(new PropertiesDefaultProvider(temp));
+        cmd.parseArgs();
+        assertEquals(1, reloadable.aaa);
+
+        writeDefaults(temp, "aaa=22\n", now - 10000);
+        cmd.parseArgs();
+        assertEquals(22, reloadable.aaa);
+        temp.delete();
+    }
+
+    /** Documents a known limitation: a modification that keeps the length and last modified time is not detected. */
+    @Test
+    public void testModificationKeepingLengthAndLastModifiedTimeIsNotDetected() throws Exception {
+        File temp = File.createTempFile("Reloadable", ".properties");
+        long lastModified = (System.currentTimeMillis() - 20000) / 1000 * 1000;
+        writeDefaults(temp, "aaa=1\n", lastModified);
+
+        Reloadable reloadable = new Reloadable();
+        CommandLine cmd = new CommandLine(reloadable).setDefaultValueProvider(new PropertiesDefaultProvider(temp));
+        cmd.parseArgs();
+        assertEquals(1, reloadable.aaa);
+
+        writeDefaults(temp, "aaa=2\n", lastModified); // same length and last modified time: not detected
+        cmd.parseArgs();
+        assertEquals(1, reloadable.aaa);
+
+        Reloadable other = new Reloadable();
+        new CommandLine(other).setDefaultValueProvider(new PropertiesDefaultProvider(temp)).parseArgs();
+        assertEquals("properties are shared by providers for the same file", 1, other.aaa);
+        temp.delete();
+    }
+
+    @Test
+    public void testLeastRecentlyUsedFilesAreEvicted() throws Exception {
+        long lastModified = (System.currentTimeMillis() - 20000) / 1000 * 1000;
+        File first = File.createTempFile("Reloadable", ".properties");
+        writeDefaults(first, "aaa=1\n", lastModified);
+        Reloadable reloadable = new Reloadable();
+        new CommandLine(reloadable).setDefaultValueProvider(new PropertiesDefaultProvider(first)).parseArgs();
+        assertEquals(1, reloadable.aaa);
+
+        writeDefaults(first, "aaa=2\n", lastModified); // not detected while the file is cached
+        List<File> others = new ArrayList<File>();
+        for (int i = 0; i < PropertiesDefaultProvider.MAX_LOADED_FILES; i++) {
+            File other = File.createTempFile("Reloadable", ".properties");
+            writeDefaults(other, "aaa=3\n", lastModified);
+            new PropertiesDefaultProvider(other);
+            others.add(other);
+        }
+        Reloadable evicted = new Reloadable();
+        new CommandLine(evicted).setDefaultValueProvider(new PropertiesDefaultProvider(first)).parseArgs();
+        assertEquals("evicted file is read again", 2, evicted.aaa);
+
+        first.delete();
+        for (File other : others) { other.delete(); }
+    }
+
+    @Test
+    public void testRecentlyModifiedFileIsReadAgain() throws Exception {
+        File temp = File.createTempFile("Reloadable", ".properties");
+        long lastModified = System.currentTimeMillis() / 1000 * 1000;
+        writeDefaults(temp, "aaa=1\n", lastModified);
+
+        Reloadable reloadable = new Reloadable();
+        CommandLine cmd = new CommandLine(reloadable).setDefaultValueProvider(new PropertiesDefaultProvider(temp));
+        cmd.parseArgs();
+        assertEquals(1, reloadable.aaa);
+
+        writeDefaults(temp, "aaa=2\n", lastModified); // modified within the timestamp resolution of the previous read
+        cmd.parseArgs();
+        assertEquals(2, reloadable.aaa);
+        temp.delete();
+    }
 }
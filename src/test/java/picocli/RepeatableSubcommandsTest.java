@@ -711,4 +711,29 @@ public class RepeatableSubcommandsTest {
         spec.subcommandsRepeatable(true);
         assertTrue("after", spec.subcommandsRepeatable());
     }
+    @Command(name = "pipeline", subcommands = Step.class, subcommandsRepeatable = true)
+    private static class Pipeline { }
+
+    @Command(name = "step")
+    private static class Step {
+        private Step() { }
+        @Option(names = "--name") String name;
+        @Option(names = "--retries", arity = "1") int retries;
+    }
+
+    @Test
+    public void testRepeatedNonPublicSubcommandGetsNewInstances() {
+        StringBuilder args = new StringBuilder();
+        int count = 200;
+        for (int i = 0; i < count; i++) {
+            args.append("step --name s").append(i).append(" --retries ").append(i).append(' ');
+        }
+        ParseResult parseResult = new CommandLine(new Pipeline()).parseArgs(args.toString().trim().split(" "));
+        assertEquals(count, parseResult.subcommands().size());
+        for (int i = 0; i < count; i++) {
+            Step step = (Step) parseResult.subcommands().get(i).commandSpec().userObject();
+            assertEquals("s" + i, step.name);
+            assertEquals(i, step.retries);
+        }
+    }
 }
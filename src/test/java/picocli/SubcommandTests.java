@@ -26,6 +26,9 @@ import picocli.CommandLine.Spec;
 import picocli.CommandLine.UnmatchedArgumentException;
 
 import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.io.StringWriter;
 import java.util.*;
 
@@ -1422,6 +1425,30 @@ public class SubcommandTests {
         assertTrue(grandChildCount > 0);
     }
 
+    @Test
+    public void testConverterCacheSize_AfterSubcommandsAdded() {
+        @Command
+        class TopLevel {}
+        CommandLine commandLine = new CommandLine(new TopLevel());
+        commandLine.addSubcommand("main", createNestedCommand());
+        assertEquals(0, commandLine.getConverterCacheSize());
+        commandLine.setConverterCacheSize(100);
+        assertEquals(100, commandLine.getConverterCacheSize());
+
+        int childCount = 0;
+        int grandChildCount = 0;
+        for (CommandLine sub : commandLine.getSubcommands().values()) {
+            childCount++;
+            assertEquals("subcommand added before IS impacted", 100, sub.getConverterCacheSize());
+            for (CommandLine subsub : sub.getSubcommands().values()) {
+                grandChildCount++;
+                assertEquals("subsubcommand added before IS impacted", 100, subsub.getConverterCacheSize());
+            }
+        }
+        assertTrue(childCount > 0);
+        assertTrue(grandChildCount > 0);
+    }
+
     @Test
     public void testParserCaseInsensitiveEnumValuesAllowed_AfterSubcommandsAdded() {
         @Command
@@ -2181,4 +2208,107 @@ public class SubcommandTests {
                 "Commands:%n" +
                 "  foo  I am playpico foo. I don't do much.%n"), out.toString());
     }
+
+    enum LazyColor { RED, GREEN }
+
+    @Command(name = "lazytop", lazySubcommands = true, subcommands = {LazySubA.class, LazySubB.class})
+    static class LazyTop {
+        @Option(names = "-v", scopeType = CommandLine.ScopeType.SUBTREE) boolean verbose;
+    }
+    @Command(name = "a", aliases = "aa")
+    static class LazySubA {
+        @Option(names = "-c") LazyColor color;
+        @CommandLine.ParentCommand LazyTop parent;
+    }
+    @Command(name = "b")
+    static class LazySubB {
+        @Option(names = "-x") int x;
+    }
+
+    @Test
+    public void testLazySubcommandsOnlyInstantiatedWhenMatched() {
+        CommandLine cmd = new CommandLine(new LazyTop());
+        assertEquals(0, cmd.getCommandSpec().initializedSubcommands().size());
+
+        ParseResult parseResult = cmd.parseArgs("aa", "-c", "RED", "-v");
+        LazySubA a = parseResult.subcommand().commandSpec().commandLine().getCommand();
+        assertEquals(LazyColor.RED, a.color);
+        assertNotNull(a.parent);
+        assertTrue(a.parent.verbose);
+        assertEquals(2, cmd.getCommandSpec().initializedSubcommands().size()); // name and alias
+
+        assertEquals(Arrays.asList("a", "aa", "b"), new ArrayList<String>(cmd.getSubcommands().keySet()));
+        assertEquals(3, cmd.getCommandSpec().initializedSubcommands().size());
+    }
+
+    @Test
+    public void testLazySubcommandsGetPropagatedSettings() {
+        CommandLine cmd = new CommandLine(new LazyTop());
+        StringWriter out = new StringWriter();
+        cmd.setCaseInsensitiveEnumValuesAllowed(true).setOut(new PrintWriter(out)).setSeparator(":");
+
+        ParseResult parseResult = cmd.parseArgs("a", "-c:green");
+        CommandLine sub = parseResult.subcommand().commandSpec().commandLine();
+        assertEquals(LazyColor.GREEN, ((LazySubA) sub.getCommand()).color);
+        assertTrue(sub.isCaseInsensitiveEnumValuesAllowed());
+        assertSame(cmd.getOut(), sub.getOut());
+        assertEquals(":", sub.getSeparator());
+    }
+
+    @Test
+    public void testLazySubcommandsHandleEveryPropagatedSetting() throws Exception {
+        CommandLine cmd = new CommandLine(new LazyTop());
+        List<String> setters = new ArrayList<String>();
+        for (Method setter : CommandLine.class.getMethods()) {
+            if (setter.getName().startsWith("set") && setter.getReturnType() == CommandLine.class && setter.getParameterTypes().length == 1) {
+                setter.invoke(cmd, sampleValue(cmd, setter));
+                setters.add(setter.getName());
+            }
+        }
+        assertTrue(setters.toString(), setters.contains("setTraceHistorySize"));
+        // instantiating the lazy subcommands replays every propagated setting; unknown settings are rejected
+        for (CommandLine sub : cmd.getSubcommands().values()) {
+            assertEquals(cmd.getSeparator(), sub.getSeparator());
+            assertEquals(cmd.getTraceHistorySize(), sub.getTraceHistorySize());
+            assertEquals(cmd.isAbbreviatedOptionsAllowed(), sub.isAbbreviatedOptionsAllowed());
+        }
+    }
+    private static Object sampleValue(CommandLine cmd, Method setter) throws Exception {
+        Class<?> type = setter.getParameterTypes()[0];
+        if (type == boolean.class) { return true; }
+        if (type == int.class) { return "setUsageHelpLongOptionsMaxWidth".equals(setter.getName()) ? 30 : 100; }
+        if (type == Character.class) { return '%'; }
+        if (type == String.class) { return "setEndOfOptionsDelimiter".equals(setter.getName()) ? "---" : "setCommandName".equals(setter.getName()) ? "renamed" : ":"; }
+        Object current = CommandLine.class.getMethod("get" + setter.getName().substring(3)).invoke(cmd);
+        if (current != null || !type.isInterface()) { return current; } // reapply the current value
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) { return null; }
+        });
+    }
+
+    @Test
+    public void testLazySubcommandsUsageHelpShowsAllSubcommands() {
+        String expected = String.format("" +
+                "Usage: lazytop [-v] [COMMAND]%n" +
+                "  -v%n" +
+                "Commands:%n" +
+                "  a, aa%n" +
+                "  b%n");
+        assertEquals(expected, new CommandLine(new LazyTop()).getUsageMessage());
+    }
+
+    @Command(name = "lazydup", lazySubcommands = true, subcommands = {LazySubA.class, LazySubDuplicate.class})
+    static class LazyDuplicate { }
+    @Command(name = "dup", aliases = "a")
+    static class LazySubDuplicate { }
+
+    @Test
+    public void testLazySubcommandsDuplicateNamesDetectedAtConstruction() {
+        try {
+            new CommandLine(new LazyDuplicate());
+            fail("Expected exception");
+        } catch (InitializationException ex) {
+            assertEquals("Alias 'a' for subcommand 'dup' is already used by another subcommand of 'lazydup'", ex.getMessage());
+        }
+    }
 }
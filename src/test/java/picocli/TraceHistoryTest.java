@@ -0,0 +1,118 @@
+package picocli;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.java.lang.system.ProvideSystemProperty;
+import org.junit.contrib.java.lang.system.SystemErrRule;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.InitializationException;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
+import picocli.CommandLine.Parameters;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TraceHistoryTest {
+    @Rule
+    public final ProvideSystemProperty ansiOFF = new ProvideSystemProperty("picocli.ansi", "false");
+
+    @Rule
+    public final SystemErrRule systemErrRule = new SystemErrRule().enableLog().muteForSuccessfulTests();
+
+    @Command(name = "app", subcommands = Sub.class)
+    static class App {
+        @Option(names = "-x") int x;
+    }
+
+    @Command(name = "sub")
+    static class Sub {
+        @Parameters int number;
+    }
+
+    @Test
+    public void testTraceHistoryDisabledByDefault() {
+        CommandLine cmd = new CommandLine(new App());
+        assertEquals(0, cmd.getTraceHistorySize());
+        cmd.parseArgs("-x", "1");
+        assertTrue(cmd.getTraceHistory().isEmpty());
+    }
+
+    @Test
+    public void testTraceHistoryRecordsMessagesWithoutPrinting() {
+        CommandLine cmd = new CommandLine(new App()).setTraceHistorySize(100);
+        cmd.parseArgs("-x", "1");
+        List<String> history = cmd.getTraceHistory();
+        assertTrue(history.toString(), history.contains("[picocli INFO] Parsing 2 command line args [-x, 1]"));
+        assertTrue(history.toString(), history.contains("[picocli DEBUG] [0] Processing argument '-x'. 1 args remaining"));
+        assertEquals("[picocli INFO] Setting field int " + App.class.getName() + ".x to '1' (was '?') for option -x on App@"
+                + Integer.toHexString(System.identityHashCode(cmd.getCommand())), history.get(history.size() - 1));
+        assertEquals("", systemErrRule.getLog());
+    }
+
+    @Test
+    public void testTraceHistoryShowsStateAtRecordTime() {
+        CommandLine cmd = new CommandLine(new App()).setTraceHistorySize(100);
+        cmd.parseArgs("-x", "1");
+        cmd.setCaseInsensitiveEnumValuesAllowed(true).setTraceHistorySize(50);
+        String configuration = null;
+        for (String message : cmd.getTraceHistory()) {
+            if (message.startsWith("[picocli DEBUG] Parser configuration: ")) { configuration = message; }
+        }
+        assertNotNull(configuration);
+        assertTrue(configuration, configuration.contains("caseInsensitiveEnumValuesAllowed=false"));
+        assertTrue(configuration, configuration.endsWith("traceHistorySize=100"));
+    }
+
+    @Test
+    public void testTraceHistoryKeepsMostRecentMessages() {
+        CommandLine cmd = new CommandLine(new App()).setTraceHistorySize(100);
+        cmd.parseArgs("-x", "1");
+        List<String> all = cmd.getTraceHistory();
+        assertTrue(all.size() > 3);
+
+        cmd.setTraceHistorySize(3).parseArgs("-x", "1");
+        assertEquals(all.subList(all.size() - 3, all.size()), cmd.getTraceHistory());
+    }
+
+    @Test
+    public void testTraceHistoryStartsEmptyForEachParse() {
+        CommandLine cmd = new CommandLine(new App()).setTraceHistorySize(100);
+        cmd.parseArgs("-x", "1");
+        List<String> first = cmd.getTraceHistory();
+        cmd.parseArgs("-x", "1");
+        assertEquals(first, cmd.getTraceHistory());
+    }
+
+    @Test
+    public void testTraceHistoryOfFailedParseIncludesSubcommands() {
+        CommandLine cmd = new CommandLine(new App()).setTraceHistorySize(100);
+        try {
+            cmd.parseArgs("-x", "1", "sub", "abc");
+            fail("Expected exception");
+        } catch (ParameterException ex) {
+            assertSame(cmd.getSubcommands().get("sub"), ex.getCommandLine());
+            List<String> history = ex.getCommandLine().getTraceHistory();
+            assertEquals(cmd.getTraceHistory(), history);
+            assertTrue(history.toString(), history.contains("[picocli INFO] Parsing 4 command line args [-x, 1, sub, abc]"));
+            assertTrue(history.toString(), history.contains("[picocli DEBUG] [3] Processing argument 'abc'. 0 args remaining"));
+        }
+    }
+
+    @Test
+    public void testTraceHistorySizePropagatesToSubcommands() {
+        CommandLine cmd = new CommandLine(new App()).setTraceHistorySize(10);
+        assertEquals(10, cmd.getSubcommands().get("sub").getTraceHistorySize());
+    }
+
+    @Test
+    public void testNegativeTraceHistorySizeIsRejected() {
+        try {
+            new CommandLine(new App()).setTraceHistorySize(-1);
+            fail("Expected exception");
+        } catch (InitializationException ex) {
+            assertEquals("Invalid trace history size -1. Value must not be negative", ex.getMessage());
+        }
+    }
+}
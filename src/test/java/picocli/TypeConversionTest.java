@@ -871,6 +871,40 @@ public class TypeConversionTest {
         }
     }
 
+    enum Ambiguous {
+        FIRST("same"), SECOND("SAME"), same("x");
+        String str;
+        Ambiguous(String s) {str = s;}
+        @Override
+        public String toString() { return str; }
+    }
+    @Test
+    public void testEnumConversionPrefersNameThenFirstMatchingConstant() {
+        class App {
+            @Option(names = "-e") Ambiguous e;
+        }
+        App app = new App();
+        CommandLine cmd = new CommandLine(app);
+        cmd.parseArgs("-e", "same");
+        assertSame(Ambiguous.same, app.e); // name() wins over toString()
+        cmd.parseArgs("-e", "SAME");
+        assertSame(Ambiguous.SECOND, app.e);
+
+        cmd.setCaseInsensitiveEnumValuesAllowed(true); // the converter is reused after the setting changes
+        cmd.parseArgs("-e", "SAME");
+        assertSame(Ambiguous.FIRST, app.e); // the first constant that matches ignoring case
+        cmd.parseArgs("-e", "second");
+        assertSame(Ambiguous.SECOND, app.e);
+
+        cmd.setCaseInsensitiveEnumValuesAllowed(false);
+        try {
+            cmd.parseArgs("-e", "second");
+            fail("Expected exception");
+        } catch (ParameterException ex) {
+            assertEquals("Invalid value for option '-e': expected one of [FIRST, same, SECOND, SAME, same, x] (case-sensitive) but was 'second'", ex.getMessage());
+        }
+    }
+
     @Test
     public void testEnumArrayTypeConversionFailsForInvalidInput() {
         try {
@@ -1080,6 +1114,80 @@ public class TypeConversionTest {
         assertTrue("java.sql.Driver", registry.containsKey(java.sql.Driver.class));
     }
 
+    @Test
+    public void testBuiltInRegistrySharedUntilConverterRegistered() throws Exception {
+        CommandLine first = new CommandLine(new EnumParams());
+        CommandLine second = new CommandLine(new EnumParams());
+        assertSame(extractRegistry(first), extractRegistry(second));
+
+        ITypeConverter<Integer> custom = new ITypeConverter<Integer>() {
+            public Integer convert(String value) { return 42; }
+        };
+        second.registerConverter(Integer.class, custom);
+        assertNotSame(extractRegistry(first), extractRegistry(second));
+        assertSame(custom, extractRegistry(second).get(Integer.class));
+        assertNotSame(custom, extractRegistry(first).get(Integer.class));
+        assertNotSame(custom, extractRegistry(new CommandLine(new EnumParams())).get(Integer.class));
+    }
+
+    static class CacheableParams {
+        @Option(names = "-a") InetAddress address;
+        @Option(names = "-c") Class<?> cls;
+        @Option(names = "-u") UUID uuid;
+    }
+    @Test
+    public void testConverterCacheDisabledByDefault() {
+        CommandLine cmd = new CommandLine(new CacheableParams());
+        assertEquals(0, cmd.getConverterCacheSize());
+        InetAddress first = cmd.parseArgs("-a", "127.0.0.1").matchedOptionValue("-a", null);
+        InetAddress second = cmd.parseArgs("-a", "127.0.0.1").matchedOptionValue("-a", null);
+        assertEquals(first, second);
+        assertNotSame(first, second);
+    }
+    @Test
+    public void testConverterCacheReusesConvertedValues() {
+        CommandLine cmd = new CommandLine(new CacheableParams()).setConverterCacheSize(10);
+        assertEquals(10, cmd.getConverterCacheSize());
+        InetAddress first = cmd.parseArgs("-a", "127.0.0.1").matchedOptionValue("-a", null);
+        assertSame(first, cmd.parseArgs("-a", "127.0.0.1").matchedOptionValue("-a", null));
+        assertSame(String.class, cmd.parseArgs("-c", "java.lang.String").matchedOptionValue("-c", null));
+
+        UUID uuid = cmd.parseArgs("-u", "f81d4fae-7dec-11d0-a765-00a0c91e6bf6").matchedOptionValue("-u", null);
+        assertNotSame("values of converters without a lookup are not cached",
+                uuid, cmd.parseArgs("-u", "f81d4fae-7dec-11d0-a765-00a0c91e6bf6").matchedOptionValue("-u", null));
+    }
+    @Test
+    public void testConverterCacheEvictsLeastRecentlyUsed() {
+        CommandLine cmd = new CommandLine(new CacheableParams()).setConverterCacheSize(2);
+        InetAddress one = cmd.parseArgs("-a", "127.0.0.1").matchedOptionValue("-a", null);
+        InetAddress two = cmd.parseArgs("-a", "127.0.0.2").matchedOptionValue("-a", null);
+        assertSame(one, cmd.parseArgs("-a", "127.0.0.1").matchedOptionValue("-a", null));
+        cmd.parseArgs("-a", "127.0.0.3"); // evicts 127.0.0.2
+        assertSame(one, cmd.parseArgs("-a", "127.0.0.1").matchedOptionValue("-a", null));
+        assertNotSame(two, cmd.parseArgs("-a", "127.0.0.2").matchedOptionValue("-a", null));
+    }
+    @Test
+    public void testConverterCacheDoesNotCacheFailures() {
+        CommandLine cmd = new CommandLine(new CacheableParams()).setConverterCacheSize(10);
+        for (int i = 0; i < 2; i++) {
+            try {
+                cmd.parseArgs("-c", "no.such.Class");
+                fail("Expected exception");
+            } catch (ParameterException ex) {
+                assertTrue(ex.getMessage(), ex.getMessage().startsWith("Invalid value for option '-c': cannot convert 'no.such.Class' to Class"));
+            }
+        }
+    }
+    @Test
+    public void testConverterCacheSizeMustNotBeNegative() {
+        try {
+            new CommandLine(new CacheableParams()).setConverterCacheSize(-1);
+            fail("Expected exception");
+        } catch (CommandLine.InitializationException ex) {
+            assertEquals("Invalid converter cache size -1. Value must not be negative", ex.getMessage());
+        }
+    }
+
     @Test
     public void testReflectionConverterExceptionHandling() throws Exception {
         Class<?> c = Class.forName("picocli.CommandLine$BuiltIn$ReflectionConverter");
@@ -1196,4 +1304,25 @@ public class TypeConversionTest {
 
         assertEquals(EnumSet.of(PARTIAL, COMPLETE), app.resultTypes);
     }
+
+    static class CountingIntConverter implements ITypeConverter<Integer> {
+        int count;
+        public Integer convert(String value) {
+            count++;
+            return Integer.valueOf(value);
+        }
+    }
+    @Test
+    public void testMultiValueElementsAreConvertedOnce() {
+        class App {
+            @Option(names = "-x", arity = "1..*", split = ",") List<Integer> list;
+            @Option(names = "-y", arity = "1..*") Map<Integer, Integer> map;
+        }
+        CountingIntConverter converter = new CountingIntConverter();
+        App app = new App();
+        new CommandLine(app).registerConverter(Integer.class, converter).parseArgs("-x", "1,2", "3", "4", "-y", "5=6", "7=8");
+        assertEquals(Arrays.asList(1, 2, 3, 4), app.list);
+        assertEquals(2, app.map.size());
+        assertEquals(8, converter.count);
+    }
 }